@@ -0,0 +1,469 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * <code>BatchExecutor</code> runs a list of independent {@link ServiceClient}
+ * operations with bounded concurrency.
+ * <p>
+ * Operations sharing the same ordering key (see {@link Operation#getOrderingKey()})
+ * are executed one by one in the input order, while operations with different
+ * ordering keys, or without an ordering key, may run in parallel. The results
+ * are always returned in the input order, regardless of completion order.
+ * <p>
+ * For example, the code below fetches resource entries for a set of keys
+ * with up to 8 concurrent requests.
+ * <pre>
+ *      ServiceClient client = ServiceClient.getInstance(account);
+ *      BatchExecutor executor = new BatchExecutor(client, 8);
+ *
+ *      List&lt;BatchExecutor.Operation&lt;ResourceEntryData&gt;&gt; ops = new ArrayList&lt;&gt;();
+ *      for (String key : keys) {
+ *          ops.add(BatchExecutor.getResourceEntry("MyBundle", "fr", key));
+ *      }
+ *      BatchExecutor.BatchResult&lt;ResourceEntryData&gt; result = executor.execute(ops);
+ * </pre>
+ */
+public final class BatchExecutor {
+
+    /**
+     * A single operation executed by {@link BatchExecutor}.
+     *
+     * @param <T>   The type of the operation's result.
+     */
+    public static abstract class Operation<T> {
+        private final String orderingKey;
+
+        /**
+         * Protected constructor for an operation without any ordering
+         * constraints.
+         */
+        protected Operation() {
+            this(null);
+        }
+
+        /**
+         * Protected constructor for an operation with an ordering key.
+         *
+         * @param orderingKey   The ordering key, or null if this operation
+         *                      can be executed in any order.
+         */
+        protected Operation(String orderingKey) {
+            this.orderingKey = orderingKey;
+        }
+
+        /**
+         * Returns the ordering key of this operation. Operations with the same
+         * ordering key are executed sequentially in the input order.
+         *
+         * @return The ordering key, or null if this operation can be executed
+         * in any order.
+         */
+        public final String getOrderingKey() {
+            return orderingKey;
+        }
+
+        /**
+         * Executes this operation.
+         *
+         * @param client    The service client.
+         * @return  The result of this operation.
+         * @throws ServiceException when the operation failed.
+         */
+        public abstract T execute(ServiceClient client) throws ServiceException;
+    }
+
+    /**
+     * The outcome of a single operation.
+     *
+     * @param <T>   The type of the operation's result.
+     */
+    public static final class Result<T> {
+        private final T value;
+        private final Throwable failure;
+        private final long elapsedNanos;
+
+        private Result(T value, Throwable failure, long elapsedNanos) {
+            this.value = value;
+            this.failure = failure;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns <code>true</code> if the operation completed without errors.
+         *
+         * @return <code>true</code> if the operation completed without errors.
+         */
+        public boolean isSuccess() {
+            return failure == null;
+        }
+
+        /**
+         * Returns the value returned by the operation.
+         *
+         * @return The value returned by the operation, or null if the operation
+         * failed.
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the exception or error thrown by the operation.
+         *
+         * @return The exception or error thrown by the operation, or null if
+         * the operation completed without errors.
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        /**
+         * Returns the time spent for executing the operation.
+         *
+         * @param unit  The time unit of the result.
+         * @return The time spent for executing the operation.
+         */
+        public long getElapsedTime(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The outcome of a batch execution.
+     *
+     * @param <T>   The type of the operations' results.
+     */
+    public static final class BatchResult<T> {
+        private final List<Result<T>> results;
+        private final long elapsedNanos;
+        private final int failureCount;
+
+        private BatchResult(List<Result<T>> results, long elapsedNanos) {
+            this.results = Collections.unmodifiableList(results);
+            this.elapsedNanos = elapsedNanos;
+            int failures = 0;
+            for (Result<T> result : results) {
+                if (!result.isSuccess()) {
+                    failures++;
+                }
+            }
+            this.failureCount = failures;
+        }
+
+        /**
+         * Returns the results of the operations in the input order.
+         *
+         * @return The results of the operations in the input order.
+         */
+        public List<Result<T>> getResults() {
+            return results;
+        }
+
+        /**
+         * Returns the number of operations completed without errors.
+         *
+         * @return The number of operations completed without errors.
+         */
+        public int getSuccessCount() {
+            return results.size() - failureCount;
+        }
+
+        /**
+         * Returns the number of failed operations.
+         *
+         * @return The number of failed operations.
+         */
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the wall clock time spent for the entire batch.
+         *
+         * @param unit  The time unit of the result.
+         * @return The wall clock time spent for the entire batch.
+         */
+        public long getElapsedTime(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Returns the sum of the time spent by each operation. Comparing
+         * this value with {@link #getElapsedTime(TimeUnit)} shows the
+         * effective parallelism of the batch.
+         *
+         * @param unit  The time unit of the result.
+         * @return The sum of the time spent by each operation.
+         */
+        public long getTotalOperationTime(TimeUnit unit) {
+            long total = 0;
+            for (Result<T> result : results) {
+                total += result.elapsedNanos;
+            }
+            return unit.convert(total, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final ServiceClient client;
+    private final int maxConcurrency;
+
+    /**
+     * Constructs a <code>BatchExecutor</code>.
+     *
+     * @param client            The service client used by operations.
+     *                          Must not be null.
+     * @param maxConcurrency    The maximum number of operations executed
+     *                          concurrently. Must be positive.
+     * @throws IllegalArgumentException when <code>maxConcurrency</code> is
+     * not positive.
+     */
+    public BatchExecutor(ServiceClient client, int maxConcurrency) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Illegal maxConcurrency: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Returns the maximum number of operations executed concurrently.
+     *
+     * @return The maximum number of operations executed concurrently.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Executes the operations and waits for completion.
+     * <p>
+     * A failure of an operation, including an <code>Error</code>, does not stop
+     * other operations, including the subsequent operations with the same
+     * ordering key.
+     *
+     * @param <T>           The type of the operations' results.
+     * @param operations    The operations to be executed. Must not be null.
+     * @return  The results of the operations in the input order.
+     * @throws InterruptedException when the calling thread is interrupted while
+     * waiting for completion.
+     */
+    public <T> BatchResult<T> execute(final List<? extends Operation<? extends T>> operations)
+            throws InterruptedException {
+        Objects.requireNonNull(operations, "operations must not be null");
+
+        final int size = operations.size();
+        final AtomicReferenceArray<Result<T>> results = new AtomicReferenceArray<>(size);
+
+        // Group operations into lanes. Operations in a lane are executed
+        // sequentially. Operations without an ordering key get their own lane.
+        Map<String, List<Integer>> orderedLanes = new LinkedHashMap<>();
+        List<List<Integer>> lanes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Operation<? extends T> op = operations.get(i);
+            if (op == null) {
+                throw new IllegalArgumentException("operations must not contain null");
+            }
+            String orderingKey = op.getOrderingKey();
+            if (orderingKey == null) {
+                lanes.add(Collections.singletonList(i));
+            } else {
+                List<Integer> lane = orderedLanes.get(orderingKey);
+                if (lane == null) {
+                    lane = new ArrayList<>();
+                    orderedLanes.put(orderingKey, lane);
+                    lanes.add(lane);
+                }
+                lane.add(i);
+            }
+        }
+
+        long start = System.nanoTime();
+        if (!lanes.isEmpty()) {
+            List<Callable<Void>> tasks = new ArrayList<>(lanes.size());
+            for (final List<Integer> lane : lanes) {
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int idx : lane) {
+                            results.set(idx, BatchExecutor.this.<T>executeOne(operations.get(idx)));
+                        }
+                        return null;
+                    }
+                });
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(maxConcurrency, tasks.size()),
+                    new ThreadFactoryBuilder()
+                        .setNameFormat("gp-batch-%d")
+                        .setDaemon(true)
+                        .build());
+            try {
+                executor.invokeAll(tasks);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        List<Result<T>> resultList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            resultList.add(results.get(i));
+        }
+        return new BatchResult<T>(resultList, elapsed);
+    }
+
+    private <T> Result<T> executeOne(Operation<? extends T> op) {
+        long start = System.nanoTime();
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = op.execute(client);
+        } catch (Throwable t) {
+            // Errors are recorded, too, so every operation has a result
+            failure = t;
+        }
+        return new Result<T>(value, failure, System.nanoTime() - start);
+    }
+
+    //
+    // Factory methods for frequently used operations
+    //
+
+    /**
+     * Returns an operation calling {@link ServiceClient#getResourceEntry(String, String, String)}.
+     * The operation does not have an ordering key.
+     *
+     * @param bundleId  The bundle ID.
+     * @param language  The language specified by BCP 47 language tag.
+     * @param resKey    The resource key.
+     * @return  An operation returning the resource entry data.
+     */
+    public static Operation<ResourceEntryData> getResourceEntry(final String bundleId,
+            final String language, final String resKey) {
+        return new Operation<ResourceEntryData>() {
+            @Override
+            public ResourceEntryData execute(ServiceClient client) throws ServiceException {
+                return client.getResourceEntry(bundleId, language, resKey);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation calling {@link ServiceClient#getResourceStrings(String, String, boolean)}.
+     * The operation does not have an ordering key.
+     *
+     * @param bundleId  The bundle ID.
+     * @param language  The language specified by BCP 47 language tag.
+     * @param fallback  If the value in the source language is included when
+     *                  translated value is not available.
+     * @return  An operation returning resource string key-value pairs.
+     */
+    public static Operation<Map<String, String>> getResourceStrings(final String bundleId,
+            final String language, final boolean fallback) {
+        return new Operation<Map<String, String>>() {
+            @Override
+            public Map<String, String> execute(ServiceClient client) throws ServiceException {
+                return client.getResourceStrings(bundleId, language, fallback);
+            }
+        };
+    }
+
+    /**
+     * Returns an operation calling
+     * {@link ServiceClient#updateResourceEntry(String, String, String, ResourceEntryDataChangeSet)}.
+     * The bundle ID, language and resource key are used as the ordering key, so
+     * updates to the same resource entry are applied in the input order, while
+     * updates to different entries may run in parallel.
+     *
+     * @param bundleId  The bundle ID.
+     * @param language  The language specified by BCP 47 language tag.
+     * @param resKey    The resource key.
+     * @param changeSet The change set of resource entry.
+     * @return  An operation updating the resource entry. The operation's result
+     * is always null.
+     */
+    public static Operation<Void> updateResourceEntry(final String bundleId,
+            final String language, final String resKey,
+            final ResourceEntryDataChangeSet changeSet) {
+        return new Operation<Void>(orderingKey(bundleId, language, resKey)) {
+            @Override
+            public Void execute(ServiceClient client) throws ServiceException {
+                client.updateResourceEntry(bundleId, language, resKey, changeSet);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Returns an operation calling
+     * {@link ServiceClient#updateResourceEntries(String, String, Map, boolean)}.
+     * The bundle ID and language are used as the ordering key, so operations
+     * created by this method for the same bundle and language are applied in
+     * the input order. They are not ordered with operations created by
+     * {@link #updateResourceEntry(String, String, String, ResourceEntryDataChangeSet)}.
+     *
+     * @param bundleId  The bundle ID.
+     * @param language  The language specified by BCP 47 language tag.
+     * @param resourceEntries    The map containing {@link ResourceEntryDataChangeSet}
+     *                  indexed by resource key to be updated.
+     * @param resync    <code>true</code> to force the service to synchronize
+     *                  resource string key-value pairs with the bundle's source
+     *                  language.
+     * @return  An operation updating the resource entries. The operation's result
+     * is always null.
+     */
+    public static Operation<Void> updateResourceEntries(final String bundleId,
+            final String language, final Map<String, ResourceEntryDataChangeSet> resourceEntries,
+            final boolean resync) {
+        return new Operation<Void>(orderingKey(bundleId, language)) {
+            @Override
+            public Void execute(ServiceClient client) throws ServiceException {
+                client.updateResourceEntries(bundleId, language, resourceEntries, resync);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Returns an ordering key composed of the parts separated by NUL.
+     */
+    private static String orderingKey(String... parts) {
+        StringBuilder buf = new StringBuilder();
+        for (String part : parts) {
+            if (buf.length() > 0) {
+                buf.append('\u0000');
+            }
+            buf.append(part);
+        }
+        return buf.toString();
+    }
+}
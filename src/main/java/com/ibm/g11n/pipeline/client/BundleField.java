@@ -0,0 +1,65 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+/**
+ * Fields of a bundle which can be selected by
+ * {@link ServiceClient#getBundleInfo(String, java.util.Set)}.
+ * Unselected fields are not included in the service response,
+ * and their values in the result are null (false for boolean fields).
+ */
+public enum BundleField {
+    /**
+     * Source language.
+     */
+    SOURCE_LANGUAGE,
+    /**
+     * Target languages.
+     */
+    TARGET_LANGUAGES,
+    /**
+     * Read only flag.
+     */
+    READ_ONLY,
+    /**
+     * Notes.
+     */
+    NOTES,
+    /**
+     * Metadata.
+     */
+    METADATA,
+    /**
+     * Translation partner.
+     */
+    PARTNER,
+    /**
+     * Segment separator pattern.
+     */
+    SEGMENT_SEPARATOR_PATTERN,
+    /**
+     * No translation pattern.
+     */
+    NO_TRANSLATION_PATTERN,
+    /**
+     * The user who updated the data last time.
+     */
+    UPDATED_BY,
+    /**
+     * The last update time.
+     */
+    UPDATED_AT;
+}
@@ -0,0 +1,594 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * <code>BundleSnapshotCodec</code> encodes and decodes bundle contents
+ * in a compact binary format, suitable for caching bundle data across
+ * process restarts.
+ * <p>
+ * A snapshot consists of a header (magic <code>GPBS</code>, format version,
+ * flags and payload kind), followed by the payload optionally compressed
+ * by deflate. The payload starts with a table of all distinct strings,
+ * each encoded as a length-prefixed UTF-8 byte sequence, followed by
+ * records referring to the strings by table index. Repeated values,
+ * such as <code>updatedBy</code> and metadata keys, are stored only once,
+ * and decoded records share the same String instances.
+ * <p>
+ * Decoders reject snapshots written in a newer format version with
+ * <code>IOException</code>, so callers can discard such a snapshot and
+ * reload the data from the service.
+ */
+public final class BundleSnapshotCodec {
+    /**
+     * The current snapshot format version.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'G', 'P', 'B', 'S'};
+
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private static final int KIND_RESOURCE_STRINGS = 1;
+    private static final int KIND_RESOURCE_ENTRIES = 2;
+
+    // Flags in a resource entry record
+    private static final int ENTRY_REVIEWED = 0x01;
+    private static final int ENTRY_UPDATED_AT = 0x02;
+    private static final int ENTRY_SEQUENCE_NUMBER = 0x04;
+    private static final int ENTRY_NOTES = 0x08;
+    private static final int ENTRY_METADATA = 0x10;
+
+    // Upper bound of the initial capacity of a collection sized by a snapshot
+    private static final int MAX_INITIAL_CAPACITY = 4096;
+
+    private BundleSnapshotCodec() {
+    }
+
+    /**
+     * Writes resource string key-value pairs, such as the result of
+     * {@link ServiceClient#getResourceStrings(String, String, boolean)},
+     * as a snapshot.
+     * <p>
+     * This method does not close the output stream.
+     *
+     * @param strings   The resource string key-value pairs.
+     * @param out       The output stream.
+     * @param compress  Whether the payload is compressed.
+     * @throws IOException when the snapshot could not be written.
+     */
+    public static void writeResourceStrings(Map<String, String> strings, OutputStream out,
+            boolean compress) throws IOException {
+        if (strings == null) {
+            throw new IllegalArgumentException("strings must be specified.");
+        }
+
+        StringTable table = new StringTable();
+        for (Entry<String, String> entry : strings.entrySet()) {
+            table.add(entry.getKey());
+            table.add(entry.getValue());
+        }
+
+        PayloadOutputStream dos = beginPayload(out, KIND_RESOURCE_STRINGS, compress);
+        try {
+            table.writeTo(dos);
+            writeVarInt(dos, strings.size());
+            for (Entry<String, String> entry : strings.entrySet()) {
+                writeVarInt(dos, table.indexOf(entry.getKey()));
+                writeVarInt(dos, table.indexOf(entry.getValue()));
+            }
+            dos.finish();
+        } finally {
+            dos.end();
+        }
+    }
+
+    /**
+     * Reads resource string key-value pairs from a snapshot written by
+     * {@link #writeResourceStrings(Map, OutputStream, boolean)}.
+     * <p>
+     * This method does not close the input stream, but may read
+     * bytes beyond the end of the snapshot.
+     *
+     * @param in    The input stream.
+     * @return      An unmodifiable map containing resource string key-value
+     *              pairs, in the order they were written.
+     * @throws IOException when the snapshot could not be read, or the
+     *              snapshot's format is not supported.
+     */
+    public static Map<String, String> readResourceStrings(InputStream in) throws IOException {
+        PayloadInputStream dis = beginRead(in, KIND_RESOURCE_STRINGS);
+        try {
+            String[] table = readStringTable(dis);
+            int size = readCount(dis);
+            Map<String, String> strings = new LinkedHashMap<String, String>(capacity(size));
+            for (int i = 0; i < size; i++) {
+                String key = readString(dis, table);
+                String value = readString(dis, table);
+                strings.put(key, value);
+            }
+            return Collections.unmodifiableMap(strings);
+        } finally {
+            dis.end();
+        }
+    }
+
+    /**
+     * Writes resource entries, such as the result of
+     * {@link ServiceClient#getResourceEntries(String, String)}, as a snapshot.
+     * <p>
+     * This method does not close the output stream.
+     *
+     * @param entries   The resource entries indexed by resource key.
+     * @param out       The output stream.
+     * @param compress  Whether the payload is compressed.
+     * @throws IOException when the snapshot could not be written.
+     */
+    public static void writeResourceEntries(Map<String, ResourceEntryData> entries,
+            OutputStream out, boolean compress) throws IOException {
+        if (entries == null) {
+            throw new IllegalArgumentException("entries must be specified.");
+        }
+
+        StringTable table = new StringTable();
+        for (Entry<String, ResourceEntryData> entry : entries.entrySet()) {
+            ResourceEntryData data = entry.getValue();
+            table.add(entry.getKey());
+            table.add(data.getValue());
+            table.add(data.getSourceValue());
+            TranslationStatus status = data.getTranslationStatus();
+            table.add(status == null ? null : status.name());
+            table.add(data.getUpdatedBy());
+            table.add(data.getPartnerStatus());
+            List<String> notes = data.getNotes();
+            if (notes != null) {
+                for (String note : notes) {
+                    table.add(note);
+                }
+            }
+            Map<String, String> metadata = data.getMetadata();
+            if (metadata != null) {
+                for (Entry<String, String> md : metadata.entrySet()) {
+                    table.add(md.getKey());
+                    table.add(md.getValue());
+                }
+            }
+        }
+
+        PayloadOutputStream dos = beginPayload(out, KIND_RESOURCE_ENTRIES, compress);
+        try {
+            writeResourceEntries(entries, table, dos);
+            dos.finish();
+        } finally {
+            dos.end();
+        }
+    }
+
+    private static void writeResourceEntries(Map<String, ResourceEntryData> entries,
+            StringTable table, DataOutputStream dos) throws IOException {
+        table.writeTo(dos);
+        writeVarInt(dos, entries.size());
+        for (Entry<String, ResourceEntryData> entry : entries.entrySet()) {
+            ResourceEntryData data = entry.getValue();
+            Date updatedAt = data.getUpdatedAt();
+            Integer sequenceNumber = data.getSequenceNumber();
+            List<String> notes = data.getNotes();
+            Map<String, String> metadata = data.getMetadata();
+            TranslationStatus status = data.getTranslationStatus();
+
+            int flags = 0;
+            if (data.isReviewed()) {
+                flags |= ENTRY_REVIEWED;
+            }
+            if (updatedAt != null) {
+                flags |= ENTRY_UPDATED_AT;
+            }
+            if (sequenceNumber != null) {
+                flags |= ENTRY_SEQUENCE_NUMBER;
+            }
+            if (notes != null) {
+                flags |= ENTRY_NOTES;
+            }
+            if (metadata != null) {
+                flags |= ENTRY_METADATA;
+            }
+
+            writeVarInt(dos, table.indexOf(entry.getKey()));
+            dos.writeByte(flags);
+            writeVarInt(dos, table.indexOf(data.getValue()));
+            writeVarInt(dos, table.indexOf(data.getSourceValue()));
+            writeVarInt(dos, table.indexOf(status == null ? null : status.name()));
+            writeVarInt(dos, table.indexOf(data.getUpdatedBy()));
+            writeVarInt(dos, table.indexOf(data.getPartnerStatus()));
+            if (updatedAt != null) {
+                dos.writeLong(updatedAt.getTime());
+            }
+            if (sequenceNumber != null) {
+                // zig-zag encoding, so small negative numbers are also compact
+                int n = sequenceNumber.intValue();
+                writeVarInt(dos, (n << 1) ^ (n >> 31));
+            }
+            if (notes != null) {
+                writeVarInt(dos, notes.size());
+                for (String note : notes) {
+                    writeVarInt(dos, table.indexOf(note));
+                }
+            }
+            if (metadata != null) {
+                writeVarInt(dos, metadata.size());
+                for (Entry<String, String> md : metadata.entrySet()) {
+                    writeVarInt(dos, table.indexOf(md.getKey()));
+                    writeVarInt(dos, table.indexOf(md.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads resource entries from a snapshot written by
+     * {@link #writeResourceEntries(Map, OutputStream, boolean)}.
+     * <p>
+     * This method does not close the input stream, but may read
+     * bytes beyond the end of the snapshot.
+     *
+     * @param in    The input stream.
+     * @return      An unmodifiable map containing resource entries indexed by
+     *              resource key, in the order they were written.
+     * @throws IOException when the snapshot could not be read, or the
+     *              snapshot's format is not supported.
+     */
+    public static Map<String, ResourceEntryData> readResourceEntries(InputStream in)
+            throws IOException {
+        PayloadInputStream dis = beginRead(in, KIND_RESOURCE_ENTRIES);
+        try {
+            return readResourceEntries(dis);
+        } finally {
+            dis.end();
+        }
+    }
+
+    private static Map<String, ResourceEntryData> readResourceEntries(DataInputStream dis)
+            throws IOException {
+        String[] table = readStringTable(dis);
+        int size = readCount(dis);
+        Map<String, ResourceEntryData> entries =
+                new LinkedHashMap<String, ResourceEntryData>(capacity(size));
+        for (int i = 0; i < size; i++) {
+            String key = readString(dis, table);
+            int flags = dis.readUnsignedByte();
+            String value = readString(dis, table);
+            String sourceValue = readString(dis, table);
+            String statusName = readString(dis, table);
+            String updatedBy = readString(dis, table);
+            String partnerStatus = readString(dis, table);
+
+            Date updatedAt = null;
+            if ((flags & ENTRY_UPDATED_AT) != 0) {
+                updatedAt = new Date(dis.readLong());
+            }
+            Integer sequenceNumber = null;
+            if ((flags & ENTRY_SEQUENCE_NUMBER) != 0) {
+                int n = readVarInt(dis);
+                sequenceNumber = Integer.valueOf((n >>> 1) ^ -(n & 1));
+            }
+            List<String> notes = null;
+            if ((flags & ENTRY_NOTES) != 0) {
+                int count = readCount(dis);
+                notes = new ArrayList<String>(Math.min(count, MAX_INITIAL_CAPACITY));
+                for (int j = 0; j < count; j++) {
+                    notes.add(readString(dis, table));
+                }
+                notes = Collections.unmodifiableList(notes);
+            }
+            Map<String, String> metadata = null;
+            if ((flags & ENTRY_METADATA) != 0) {
+                int count = readCount(dis);
+                metadata = new LinkedHashMap<String, String>(capacity(count));
+                for (int j = 0; j < count; j++) {
+                    String mdKey = readString(dis, table);
+                    metadata.put(mdKey, readString(dis, table));
+                }
+                metadata = Collections.unmodifiableMap(metadata);
+            }
+
+            entries.put(key, new SnapshotResourceEntryData(value, sourceValue,
+                    toTranslationStatus(statusName), (flags & ENTRY_REVIEWED) != 0,
+                    updatedBy, updatedAt, notes, metadata, partnerStatus, sequenceNumber));
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * <code>ResourceEntryData</code> decoded from a snapshot.
+     */
+    private static final class SnapshotResourceEntryData extends ResourceEntryData {
+        private final List<String> notes;
+        private final Map<String, String> metadata;
+        private final String partnerStatus;
+        private final Integer sequenceNumber;
+
+        SnapshotResourceEntryData(String value, String sourceValue,
+                TranslationStatus translationStatus, boolean reviewed,
+                String updatedBy, Date updatedAt, List<String> notes,
+                Map<String, String> metadata, String partnerStatus,
+                Integer sequenceNumber) {
+            super(value, sourceValue, translationStatus, reviewed, updatedBy, updatedAt);
+            this.notes = notes;
+            this.metadata = metadata;
+            this.partnerStatus = partnerStatus;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public List<String> getNotes() {
+            return notes;
+        }
+
+        @Override
+        public Map<String, String> getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public String getPartnerStatus() {
+            return partnerStatus;
+        }
+
+        @Override
+        public Integer getSequenceNumber() {
+            return sequenceNumber;
+        }
+    }
+
+    /**
+     * Table of distinct strings. Index 0 is reserved for null.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+        private final List<String> strings = new ArrayList<String>();
+
+        void add(String s) {
+            if (s != null && !indexes.containsKey(s)) {
+                strings.add(s);
+                indexes.put(s, Integer.valueOf(strings.size()));
+            }
+        }
+
+        int indexOf(String s) {
+            return s == null ? 0 : indexes.get(s).intValue();
+        }
+
+        void writeTo(DataOutputStream dos) throws IOException {
+            writeVarInt(dos, strings.size());
+            for (String s : strings) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(dos, bytes.length);
+                dos.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Output stream for a snapshot payload, which finishes compression
+     * without closing the underlying stream.
+     */
+    private static final class PayloadOutputStream extends DataOutputStream {
+        private final Deflater deflater;
+        private final DeflaterOutputStream deflaterOut;
+
+        PayloadOutputStream(OutputStream out, Deflater deflater) {
+            this(out, deflater, deflater == null ? null : new DeflaterOutputStream(out, deflater, 8192));
+        }
+
+        private PayloadOutputStream(OutputStream out, Deflater deflater,
+                DeflaterOutputStream deflaterOut) {
+            super(new BufferedOutputStream(deflaterOut == null ? out : deflaterOut, 8192));
+            this.deflater = deflater;
+            this.deflaterOut = deflaterOut;
+        }
+
+        void finish() throws IOException {
+            flush();
+            if (deflaterOut != null) {
+                deflaterOut.finish();
+                deflaterOut.flush();
+            }
+        }
+
+        /**
+         * Releases the native memory used by compression.
+         */
+        void end() {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Input stream for a snapshot payload, which releases the inflater
+     * without closing the underlying stream.
+     */
+    private static final class PayloadInputStream extends DataInputStream {
+        private final Inflater inflater;
+
+        PayloadInputStream(InputStream in, Inflater inflater) {
+            super(new BufferedInputStream(
+                    inflater == null ? in : new InflaterInputStream(in, inflater), 8192));
+            this.inflater = inflater;
+        }
+
+        /**
+         * Releases the native memory used by decompression.
+         */
+        void end() {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    private static PayloadOutputStream beginPayload(OutputStream out, int kind, boolean compress)
+            throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("out must be specified.");
+        }
+        out.write(MAGIC);
+        out.write(FORMAT_VERSION);
+        out.write(compress ? FLAG_COMPRESSED : 0);
+        out.write(kind);
+
+        return new PayloadOutputStream(out, compress ? new Deflater(Deflater.BEST_SPEED) : null);
+    }
+
+    private static PayloadInputStream beginRead(InputStream in, int kind) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("in must be specified.");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        DataInputStream header = new DataInputStream(in);
+        header.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("Not a bundle snapshot.");
+            }
+        }
+        int version = header.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported bundle snapshot version: " + version);
+        }
+        int flags = header.readUnsignedByte();
+        int actualKind = header.readUnsignedByte();
+        if (actualKind != kind) {
+            throw new IOException("Unexpected bundle snapshot kind: " + actualKind);
+        }
+
+        return new PayloadInputStream(in, (flags & FLAG_COMPRESSED) != 0 ? new Inflater() : null);
+    }
+
+    // Sizes and lengths read from a snapshot are not trusted. Buffers and
+    // collections grow while the data is read, so a corrupt size results in
+    // EOFException instead of a huge allocation.
+
+    private static String[] readStringTable(DataInputStream dis) throws IOException {
+        int size = readCount(dis);
+        List<String> table = new ArrayList<String>(Math.min(size, MAX_INITIAL_CAPACITY) + 1);
+        table.add(null);
+        byte[] buf = new byte[256];
+        for (int i = 1; i <= size; i++) {
+            int len = readCount(dis);
+            buf = readBytes(dis, buf, len);
+            table.add(new String(buf, 0, len, StandardCharsets.UTF_8));
+        }
+        return table.toArray(new String[table.size()]);
+    }
+
+    /**
+     * Reads the bytes into the buffer, and returns the buffer, which is
+     * a new array if the specified buffer is too small.
+     */
+    private static byte[] readBytes(DataInputStream dis, byte[] buf, int len) throws IOException {
+        int pos = 0;
+        while (pos < len) {
+            if (pos == buf.length) {
+                buf = Arrays.copyOf(buf, (int) Math.min(len, 2L * buf.length));
+            }
+            int n = Math.min(len, buf.length) - pos;
+            dis.readFully(buf, pos, n);
+            pos += n;
+        }
+        return buf;
+    }
+
+    private static String readString(DataInputStream dis, String[] table) throws IOException {
+        int idx = readVarInt(dis);
+        if (idx < 0 || idx >= table.length) {
+            throw new IOException("Invalid string index: " + idx);
+        }
+        return table[idx];
+    }
+
+    private static int readCount(DataInputStream dis) throws IOException {
+        int count = readVarInt(dis);
+        if (count < 0) {
+            throw new IOException("Invalid size: " + count);
+        }
+        return count;
+    }
+
+    private static TranslationStatus toTranslationStatus(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return TranslationStatus.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            // written by a newer version with a new status
+            return TranslationStatus.UNKNOWN;
+        }
+    }
+
+    private static int capacity(int size) {
+        size = Math.min(size, MAX_INITIAL_CAPACITY);
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+
+    private static void writeVarInt(DataOutputStream dos, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            dos.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dos.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream dis) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = dis.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+}
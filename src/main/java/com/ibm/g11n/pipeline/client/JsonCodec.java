@@ -0,0 +1,61 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+/**
+ * <code>JsonCodec</code> is a service provider interface for mapping
+ * request and response objects used by {@link ServiceClient} to JSON.
+ * <p>
+ * By default, <code>ServiceClient</code> uses a codec implemented with
+ * Gson. A different implementation can be registered by a provider-configuration
+ * file <code>META-INF/services/com.ibm.g11n.pipeline.client.JsonCodec</code>
+ * (the first implementation found by {@link java.util.ServiceLoader} is used),
+ * or set to a client by {@link ServiceClient#setJsonCodec(JsonCodec)}.
+ * <p>
+ * The objects passed to a codec include non-public classes with private
+ * fields. A field name is used as the JSON property name as is, and
+ * date values are represented by ISO 8601 strings, such as
+ * <code>2017-01-02T03:04:05.678Z</code>. Map entries with null value must be
+ * serialized, because the service interprets them as deletion. An
+ * implementation must be thread-safe.
+ */
+public interface JsonCodec {
+    /**
+     * Reads an object from JSON.
+     *
+     * @param <T>       The type of the object.
+     * @param reader    The reader providing JSON text.
+     * @param classOfT  The class of the object.
+     * @return  The object read from the JSON text.
+     * @throws IOException if the JSON text could not be read.
+     */
+    <T> T fromJson(Reader reader, Class<T> classOfT) throws IOException;
+
+    /**
+     * Writes an object as JSON.
+     *
+     * @param src       The object to be written.
+     * @param typeOfSrc The type of the object.
+     * @param writer    The writer receiving JSON text.
+     * @throws IOException if the JSON text could not be written.
+     */
+    void toJson(Object src, Type typeOfSrc, Writer writer) throws IOException;
+}
@@ -28,6 +28,7 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.ibm.g11n.pipeline.client.rb.CloudResourceBundleControl;
+import com.ibm.g11n.pipeline.iam.RefreshableTokenManager;
 import com.ibm.g11n.pipeline.iam.TokenManager;
 import com.ibm.g11n.pipeline.iam.TokenManagerException;
 import com.ibm.g11n.pipeline.iam.TokenManagerFactory;
@@ -505,6 +506,34 @@ public class ServiceAccount {
        return tokenManager.getToken();
     }
     
+    /**
+     * Replaces the IAM bearer token rejected by the service with a new one.
+     * <p>
+     * This method only works when the account's token manager is
+     * a {@link RefreshableTokenManager}, such as the one created by
+     * {@link TokenManagerFactory#getTokenLifeCycleManager(String, String)}.
+     * 
+     * @param staleToken The IAM bearer token rejected by the service.
+     * @return A new IAM bearer token, or null if the account is not IAM enabled
+     *         or the token manager does not support refreshing tokens.
+     * @throws TokenManagerException when a new token could not be fetched.
+     */
+    public String refreshIamToken(String staleToken) throws TokenManagerException {
+        if (!(tokenManager instanceof RefreshableTokenManager)) {
+            return null;
+        }
+        return ((RefreshableTokenManager) tokenManager).refreshToken(staleToken);
+    }
+
+    /**
+     * Returns the IAM token manager, or null if the account is not IAM enabled.
+     * 
+     * @return The IAM token manager.
+     */
+    TokenManager getTokenManager() {
+        return tokenManager;
+    }
+
     /**
      * Returns the URL of IBM Globalization Pipeline service.
      * 
@@ -51,7 +51,13 @@ public abstract class ServiceClient {
     };
 
     protected final ServiceAccount account;
-    protected AuthScheme scheme = AuthScheme.HMAC;
+    protected volatile AuthScheme scheme = AuthScheme.HMAC;
+    protected volatile JsonCodec jsonCodec = ServiceClientImpl.getDefaultJsonCodec();
+    protected volatile boolean sortedResults = true;
+    protected volatile boolean lazyResults = false;
+    // Set by ServiceClientRegistry before the client is published
+    private volatile boolean shared;
+    protected final ServiceClientStatistics statistics = new ServiceClientStatistics();
 
     /**
      * Protected constructor for a subclass extending <code>ServiceClient</code>.
@@ -73,6 +79,24 @@ public abstract class ServiceClient {
         return new ServiceClientImpl(account);
     }
 
+    /**
+     * Returns the shared instance of ServiceClient for the specified ServiceAccount,
+     * managed by the default {@link ServiceClientRegistry}.
+     * <p>
+     * Unlike {@link #getInstance(ServiceAccount)}, this method returns the same
+     * instance for equivalent service accounts, so state kept by the client is
+     * reused across callers. The default registry holds the instance weakly,
+     * so callers should keep a reference to it while it is in use. The
+     * configuration of the shared instance cannot be changed.
+     * 
+     * @param account   The service account. Must not be null.
+     * @return  The shared instance of ServiceClient.
+     * @see ServiceClientRegistry#getDefault()
+     */
+    public static ServiceClient getSharedInstance(ServiceAccount account) {
+        return ServiceClientRegistry.getDefault().getClient(account);
+    }
+
     /**
      * Returns an instance of ServiceClient.
      * <p>
@@ -118,11 +142,125 @@ public abstract class ServiceClient {
      * {@link UserType#READER READER} accounts.
      * 
      * @param scheme The authentication scheme.
+     * @throws IllegalStateException if this client is shared by a
+     * {@link ServiceClientRegistry}.
      */
     public void setAuthScheme(AuthScheme scheme) {
+        checkConfigurable();
         this.scheme = scheme;
     }
 
+    /**
+     * Returns the JSON codec used for mapping request and response
+     * objects to JSON.
+     *
+     * @return The JSON codec.
+     */
+    public JsonCodec getJsonCodec() {
+        return jsonCodec;
+    }
+
+    /**
+     * Sets the JSON codec used for mapping request and response
+     * objects to JSON.
+     * <p>
+     * By default, the codec registered by {@link java.util.ServiceLoader},
+     * or the default implementation by Gson is used.
+     *
+     * @param jsonCodec The JSON codec. Must not be null.
+     * @throws IllegalStateException if this client is shared by a
+     * {@link ServiceClientRegistry}.
+     */
+    public void setJsonCodec(JsonCodec jsonCodec) {
+        checkConfigurable();
+        this.jsonCodec = Objects.requireNonNull(jsonCodec, "jsonCodec must not be null");
+    }
+
+    /**
+     * Returns whether maps returned by this client, such as the result of
+     * {@link #getResourceEntries(String, String)}, are sorted by keys.
+     *
+     * @return true if result maps are sorted by keys.
+     */
+    public boolean isSortedResults() {
+        return sortedResults;
+    }
+
+    /**
+     * Sets whether maps returned by this client are sorted by keys.
+     * <p>
+     * Result maps of methods such as {@link #getResourceEntries(String, String)},
+     * {@link #getTranslationRequests()} and {@link #getUsers()} are new mutable
+     * maps owned by the caller. By default, the maps are sorted by keys. When
+     * the order is not significant, setting this to false avoids sorting, and
+     * the maps keep the order of entries in the service response.
+     *
+     * @param sortedResults true to sort result maps by keys.
+     * @throws IllegalStateException if this client is shared by a
+     * {@link ServiceClientRegistry}.
+     */
+    public void setSortedResults(boolean sortedResults) {
+        checkConfigurable();
+        this.sortedResults = sortedResults;
+    }
+
+    /**
+     * Returns whether maps returned by this client are lazily converted
+     * immutable views.
+     *
+     * @return true if result maps are lazily converted views.
+     * @see #setLazyResults(boolean)
+     */
+    public boolean isLazyResults() {
+        return lazyResults;
+    }
+
+    /**
+     * Sets whether maps returned by this client are lazily converted
+     * immutable views.
+     * <p>
+     * By default, result maps of methods such as
+     * {@link #getResourceEntries(String, String)} are new mutable maps, and
+     * a data object is created for every entry. When enabled, result maps
+     * are immutable views over the decoded response, creating the data object
+     * for an entry when its value is first accessed, and returning the same
+     * object afterwards. This reduces allocation when callers read only some
+     * entries, or only iterate keys. Result maps are still sorted by keys
+     * unless {@link #setSortedResults(boolean)} is set to false.
+     *
+     * @param lazyResults true to return lazily converted immutable views.
+     * @throws IllegalStateException if this client is shared by a
+     * {@link ServiceClientRegistry}.
+     */
+    public void setLazyResults(boolean lazyResults) {
+        checkConfigurable();
+        this.lazyResults = lazyResults;
+    }
+
+    /**
+     * Marks this client as shared by a {@link ServiceClientRegistry}, so its
+     * configuration cannot be changed.
+     */
+    void markShared() {
+        shared = true;
+    }
+
+    private void checkConfigurable() {
+        if (shared) {
+            throw new IllegalStateException(
+                    "The configuration of a shared ServiceClient cannot be changed.");
+        }
+    }
+
+    /**
+     * Returns the statistics of HTTP requests made by this client.
+     *
+     * @return The statistics of this client.
+     */
+    public ServiceClientStatistics getStatistics() {
+        return statistics;
+    }
+
 
     //
     // $service/v2 APIs
@@ -195,6 +333,27 @@ public abstract class ServiceClient {
      */
     public abstract BundleData getBundleInfo(String bundleId) throws ServiceException;
 
+    /**
+     * Returns the bundle's configuration including only the specified fields.
+     * <p>
+     * Selecting fields reduces the size of the service response. Values of
+     * fields not selected are null (or false) in the result.
+     * <p>
+     * The default implementation ignores <code>fields</code> and returns the
+     * result of {@link #getBundleInfo(String)}. Subclasses may override this method
+     * to request only the selected fields.
+     * 
+     * @param bundleId  The bundle ID. Must not be null or empty.
+     * @param fields    The fields to be included in the result. If null or empty,
+     *                  all fields are included.
+     * @return          The bundle's configuration.
+     * @throws ServiceException when the operation failed.
+     */
+    public BundleData getBundleInfo(String bundleId, Set<BundleField> fields)
+            throws ServiceException {
+        return getBundleInfo(bundleId);
+    }
+
     /**
      * Returns the bundle's metrics information.
      * <p>
@@ -258,6 +417,29 @@ public abstract class ServiceClient {
     public abstract Map<String, ResourceEntryData> getResourceEntries(String bundleId,
             String language) throws ServiceException;
 
+    /**
+     * Returns a map containing resource string entries indexed by resource key
+     * in the bundle and the language, including only the specified fields.
+     * <p>
+     * Selecting fields reduces the size of the service response. Values of
+     * fields not selected are null (or false) in the result.
+     * <p>
+     * The default implementation ignores <code>fields</code> and returns the
+     * result of {@link #getResourceEntries(String, String)}. Subclasses may override this method
+     * to request only the selected fields.
+     * 
+     * @param bundleId  The bundle ID.
+     * @param language  The language specified by BCP 47 language tag.
+     * @param fields    The fields to be included in the result. If null or empty,
+     *                  all fields are included.
+     * @return          A map containing resource string entries indexed by resource key.
+     * @throws ServiceException when the operation failed.
+     */
+    public Map<String, ResourceEntryData> getResourceEntries(String bundleId,
+            String language, Set<ResourceEntryField> fields) throws ServiceException {
+        return getResourceEntries(bundleId, language);
+    }
+
 
     /**
      * Returns per language metrics information
@@ -492,6 +674,29 @@ public abstract class ServiceClient {
      */
     public abstract DocumentData getDocumentInfo(DocumentType type, String documentId) throws ServiceException;
 
+    /**
+     * Returns the document's configuration including only the specified fields.
+     * The document ID and type are always included.
+     * <p>
+     * Selecting fields reduces the size of the service response. Values of
+     * fields not selected are null (or false) in the result.
+     * <p>
+     * The default implementation ignores <code>fields</code> and returns the
+     * result of {@link #getDocumentInfo(DocumentType, String)}. Subclasses may override this method
+     * to request only the selected fields.
+     * 
+     * @param type  The type of document being requested.
+     * @param documentId  The document ID. Must not be null or empty.
+     * @param fields    The fields to be included in the result. If null or empty,
+     *                  all fields are included.
+     * @return          The document's configuration.
+     * @throws ServiceException when the operation failed.
+     */
+    public DocumentData getDocumentInfo(DocumentType type, String documentId,
+            Set<DocumentField> fields) throws ServiceException {
+        return getDocumentInfo(type, documentId);
+    }
+
     /**
      * Returns the document's metrics information.
      * <p>
@@ -792,6 +997,28 @@ public abstract class ServiceClient {
      */
     public abstract Map<String, TranslationRequestData> getTranslationRequests(boolean summary) throws ServiceException;
 
+    /**
+     * Returns a map containing <code>TranslationRequestData</code> indexed by translation
+     * request IDs, including only the specified fields. The status field is always
+     * included.
+     * <p>
+     * Selecting fields reduces the size of the service response. Values of
+     * fields not selected are null in the result.
+     * <p>
+     * The default implementation ignores <code>fields</code> and returns the
+     * result of {@link #getTranslationRequests()}. Subclasses may override this method
+     * to request only the selected fields.
+     * 
+     * @param fields The fields to be included in the result. If null or empty,
+     *               all fields are included.
+     * @return A map containing <code>TranslationRequestData</code> indexed by translation.
+     * @throws ServiceException when the operation failed.
+     */
+    public Map<String, TranslationRequestData> getTranslationRequests(
+            Set<TranslationRequestField> fields) throws ServiceException {
+        return getTranslationRequests();
+    }
+
     /**
      * Returns the translation request specified by the translation request ID.
      * 
@@ -813,6 +1040,25 @@ public abstract class ServiceClient {
     public abstract TranslationRequestData getTranslationRequest(String trId, boolean summary)
             throws ServiceException;
 
+    /**
+     * Returns the translation request specified by the translation request ID,
+     * including only the specified fields. The status field is always included.
+     * <p>
+     * The default implementation ignores <code>fields</code> and returns the
+     * result of {@link #getTranslationRequest(String)}. Subclasses may override this method
+     * to request only the selected fields.
+     * 
+     * @param trId  The translation request ID.
+     * @param fields The fields to be included in the result. If null or empty,
+     *               all fields are included.
+     * @return  The translation request data.
+     * @throws ServiceException when the operation failed.
+     */
+    public TranslationRequestData getTranslationRequest(String trId,
+            Set<TranslationRequestField> fields) throws ServiceException {
+        return getTranslationRequest(trId);
+    }
+
     /**
      * Creates a new translation request.
      * 
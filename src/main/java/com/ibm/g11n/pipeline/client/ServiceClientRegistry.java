@@ -0,0 +1,233 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+import com.ibm.g11n.pipeline.iam.TokenManager;
+
+/**
+ * <code>ServiceClientRegistry</code> manages long-lived {@link ServiceClient}
+ * instances shared by callers using the same {@link ServiceAccount}.
+ * <p>
+ * Service accounts are considered equivalent when they have the same service
+ * URL, instance ID and credentials, or the same IAM token manager. Because a
+ * client is shared, its configuration cannot be changed: setters such as
+ * {@link ServiceClient#setAuthScheme(ServiceClient.AuthScheme)} throw
+ * <code>IllegalStateException</code>. A caller needing a different
+ * configuration should create its own client by
+ * {@link ServiceClient#getInstance(ServiceAccount)}.
+ * <p>
+ * Clients are released by {@link #release(ServiceAccount)}, or all at once by
+ * {@link #close()}. The default registry returned by {@link #getDefault()} is
+ * used by {@link com.ibm.g11n.pipeline.client.rb.CloudResourceBundleControl},
+ * and cannot be closed. The default registry holds clients weakly, so a client
+ * no longer referenced by any caller, such as a client for a tenant whose
+ * resource bundles were discarded, is removed by garbage collection along with
+ * its IAM token manager.
+ */
+public final class ServiceClientRegistry implements Closeable {
+
+    private static final ServiceClientRegistry DEFAULT = new ServiceClientRegistry(true);
+
+    private final ConcurrentMap<AccountKey, ServiceClient> clients;
+    private final boolean isDefault;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new empty registry.
+     */
+    public ServiceClientRegistry() {
+        this(false);
+    }
+
+    private ServiceClientRegistry(boolean isDefault) {
+        this.isDefault = isDefault;
+        if (isDefault) {
+            clients = new MapMaker().weakValues().makeMap();
+        } else {
+            clients = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Returns the default registry shared in the JVM.
+     *
+     * @return The default registry.
+     */
+    public static ServiceClientRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the client for the specified service account, creating a new
+     * one if this registry does not have a client for an equivalent account.
+     *
+     * @param account   The service account.
+     * @return The client for the service account.
+     * @throws IllegalStateException if this registry is closed.
+     */
+    public ServiceClient getClient(ServiceAccount account) {
+        if (account == null) {
+            throw new IllegalArgumentException("account must be specified.");
+        }
+        ensureOpen();
+        AccountKey key = new AccountKey(account);
+        ServiceClient client = clients.get(key);
+        if (client == null) {
+            ServiceClient newClient = ServiceClient.getInstance(account);
+            newClient.markShared();
+            client = clients.putIfAbsent(key, newClient);
+            if (client == null) {
+                client = newClient;
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Returns the statistics of the client for the specified service account.
+     *
+     * @param account   The service account.
+     * @return The statistics, or null if this registry does not have a client
+     * for the service account.
+     */
+    public ServiceClientStatistics getStatistics(ServiceAccount account) {
+        if (account == null) {
+            throw new IllegalArgumentException("account must be specified.");
+        }
+        ServiceClient client = clients.get(new AccountKey(account));
+        return client == null ? null : client.getStatistics();
+    }
+
+    /**
+     * Returns the statistics of all clients in this registry, keyed by
+     * service URL and instance ID separated by '/'.
+     *
+     * @return An unmodifiable map of the statistics.
+     */
+    public Map<String, ServiceClientStatistics> getAllStatistics() {
+        Map<String, ServiceClientStatistics> result = new HashMap<>();
+        for (Map.Entry<AccountKey, ServiceClient> entry : clients.entrySet()) {
+            AccountKey key = entry.getKey();
+            result.put(key.url + "/" + key.instanceId, entry.getValue().getStatistics());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Removes the client for the specified service account from this registry.
+     * The next call to {@link #getClient(ServiceAccount)} for the account
+     * creates a new client.
+     *
+     * @param account   The service account.
+     * @return true if a client was removed.
+     */
+    public boolean release(ServiceAccount account) {
+        if (account == null) {
+            throw new IllegalArgumentException("account must be specified.");
+        }
+        return clients.remove(new AccountKey(account)) != null;
+    }
+
+    /**
+     * Returns the number of clients in this registry.
+     *
+     * @return The number of clients.
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Returns whether this registry is closed.
+     *
+     * @return true if this registry is closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases all clients and closes this registry. Subsequent calls to
+     * {@link #getClient(ServiceAccount)} throw <code>IllegalStateException</code>.
+     * This method has no effect if the registry is already closed.
+     *
+     * @throws IllegalStateException if this is the default registry.
+     */
+    @Override
+    public void close() {
+        if (isDefault) {
+            throw new IllegalStateException("The default registry cannot be closed.");
+        }
+        closed = true;
+        clients.clear();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The registry is closed.");
+        }
+    }
+
+    /**
+     * Registry key identifying equivalent service accounts.
+     */
+    private static final class AccountKey {
+        final String url;
+        final String instanceId;
+        final String userId;
+        final String password;
+        final TokenManager tokenManager;
+
+        AccountKey(ServiceAccount account) {
+            url = account.getUrl();
+            instanceId = account.getInstanceId();
+            userId = account.getUserId();
+            password = account.getPassword();
+            tokenManager = account.getTokenManager();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, instanceId, userId, password)
+                    + 31 * System.identityHashCode(tokenManager);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof AccountKey)) {
+                return false;
+            }
+            AccountKey other = (AccountKey) obj;
+            return url.equals(other.url)
+                    && instanceId.equals(other.instanceId)
+                    && Objects.equals(userId, other.userId)
+                    && Objects.equals(password, other.password)
+                    && tokenManager == other.tokenManager;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>ServiceClientStatistics</code> accumulates the HTTP requests made
+ * by a {@link ServiceClient}. An instance is thread safe, and values returned
+ * by the getter methods are updated while requests are made.
+ *
+ * @see ServiceClient#getStatistics()
+ */
+public final class ServiceClientStatistics {
+    private final long createdAt = System.currentTimeMillis();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong requestNanos = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    /**
+     * Records a completed HTTP request. This method is called by
+     * {@link ServiceClient} implementations.
+     *
+     * @param elapsedNanos  The time spent for the request in nanoseconds.
+     * @param status        The HTTP status code, or -1 if no response was received.
+     * @param bodyLength    The length of the response body in bytes.
+     */
+    public void recordRequest(long elapsedNanos, int status, long bodyLength) {
+        requestCount.incrementAndGet();
+        if (status < 0 || status >= 400) {
+            errorCount.incrementAndGet();
+        }
+        requestNanos.addAndGet(elapsedNanos);
+        bytesReceived.addAndGet(bodyLength);
+    }
+
+    /**
+     * Returns the time when this statistics was created.
+     *
+     * @return The creation time in milliseconds since the epoch.
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the number of HTTP requests made.
+     *
+     * @return The number of HTTP requests.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of HTTP requests failed with an I/O error, or
+     * completed with an HTTP error status (4xx or 5xx).
+     *
+     * @return The number of failed HTTP requests.
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * Returns the total time spent for HTTP requests.
+     *
+     * @param unit  The time unit of the result.
+     * @return The total request time.
+     */
+    public long getTotalRequestTime(TimeUnit unit) {
+        return unit.convert(requestNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the total length of response bodies received.
+     *
+     * @return The number of bytes received.
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceClientStatistics[requests=" + getRequestCount()
+                + ", errors=" + getErrorCount()
+                + ", totalRequestTimeMillis=" + getTotalRequestTime(TimeUnit.MILLISECONDS)
+                + ", bytesReceived=" + getBytesReceived() + "]";
+    }
+}
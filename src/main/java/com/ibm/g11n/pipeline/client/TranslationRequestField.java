@@ -0,0 +1,106 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+/**
+ * Fields of a translation request which can be selected by
+ * {@link ServiceClient#getTranslationRequests(java.util.Set)} and
+ * {@link ServiceClient#getTranslationRequest(String, java.util.Set)}.
+ * Unselected fields are not included in the service response,
+ * and their values in the result are null (false for boolean fields).
+ */
+public enum TranslationRequestField {
+    /**
+     * Translation partner.
+     */
+    PARTNER,
+    /**
+     * Name of the translation request.
+     */
+    NAME,
+    /**
+     * Target languages by bundle.
+     */
+    TARGET_LANGUAGES_BY_BUNDLE,
+    /**
+     * Organization name.
+     */
+    ORGANIZATION,
+    /**
+     * Email addresses.
+     */
+    EMAILS,
+    /**
+     * Phone numbers.
+     */
+    PHONES,
+    /**
+     * Industry domains.
+     */
+    DOMAINS,
+    /**
+     * Notes.
+     */
+    NOTES,
+    /**
+     * Metadata.
+     */
+    METADATA,
+    /**
+     * Translation partner parameters.
+     */
+    PARTNER_PARAMETERS,
+    /**
+     * Status of the translation request.
+     */
+    STATUS,
+    /**
+     * Word counts by bundle.
+     */
+    WORD_COUNTS_BY_BUNDLE,
+    /**
+     * Estimated completion time.
+     */
+    ESTIMATED_COMPLETION,
+    /**
+     * Creation time.
+     */
+    CREATED_AT,
+    /**
+     * Start time.
+     */
+    STARTED_AT,
+    /**
+     * Submission time.
+     */
+    SUBMITTED_AT,
+    /**
+     * Translation completion time.
+     */
+    TRANSLATED_AT,
+    /**
+     * Merge time.
+     */
+    MERGED_AT,
+    /**
+     * The user who updated the data last time.
+     */
+    UPDATED_BY,
+    /**
+     * The last update time.
+     */
+    UPDATED_AT;
+}
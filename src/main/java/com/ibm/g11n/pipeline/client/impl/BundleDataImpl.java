@@ -15,11 +15,25 @@
  */
 package com.ibm.g11n.pipeline.client.impl;
 
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextBoolean;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextSharedString;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextString;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringList;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringMap;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringSet;
+
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.ibm.g11n.pipeline.client.BundleData;
 
 /**
@@ -131,5 +145,68 @@ class BundleDataImpl extends BundleData {
         public String getNoTranslationPattern() {
             return noTranslationPattern;
         }
+
+        /**
+         * Streaming JSON reader for RestBundle.
+         */
+        static final class JsonAdapter extends TypeAdapter<RestBundle> {
+            private final TypeAdapter<RestBundle> delegate;
+            private final TypeAdapter<Date> dateAdapter;
+
+            JsonAdapter(Gson gson, TypeAdapter<RestBundle> delegate) {
+                this.delegate = delegate;
+                this.dateAdapter = gson.getAdapter(Date.class);
+            }
+
+            @Override
+            public void write(JsonWriter out, RestBundle value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public RestBundle read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                RestBundle bundle = new RestBundle();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    switch (name) {
+                    case "sourceLanguage":
+                        bundle.sourceLanguage = nextSharedString(in);
+                        break;
+                    case "targetLanguages":
+                        bundle.targetLanguages = nextStringSet(in);
+                        break;
+                    case "readOnly":
+                        bundle.readOnly = nextBoolean(in);
+                        break;
+                    case "notes":
+                        bundle.notes = nextStringList(in);
+                        break;
+                    case "metadata":
+                        bundle.metadata = nextStringMap(in);
+                        break;
+                    case "partner":
+                        bundle.partner = nextSharedString(in);
+                        break;
+                    case "segmentSeparatorPattern":
+                        bundle.segmentSeparatorPattern = nextString(in);
+                        break;
+                    case "noTranslationPattern":
+                        bundle.noTranslationPattern = nextString(in);
+                        break;
+                    default:
+                        if (!bundle.readField(name, in, dateAdapter)) {
+                            in.skipValue();
+                        }
+                    }
+                }
+                in.endObject();
+                return bundle;
+            }
+        }
     }
 }
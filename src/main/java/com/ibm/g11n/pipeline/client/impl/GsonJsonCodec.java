@@ -0,0 +1,54 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.ibm.g11n.pipeline.client.JsonCodec;
+
+/**
+ * The default JsonCodec implementation by Gson.
+ */
+final class GsonJsonCodec implements JsonCodec {
+    private final Gson gson;
+
+    GsonJsonCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Class<T> classOfT) throws IOException {
+        try {
+            return gson.fromJson(reader, classOfT);
+        } catch (JsonIOException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void toJson(Object src, Type typeOfSrc, Writer writer) throws IOException {
+        try {
+            gson.toJson(src, typeOfSrc, writer);
+        } catch (JsonIOException e) {
+            throw new IOException(e);
+        }
+    }
+}
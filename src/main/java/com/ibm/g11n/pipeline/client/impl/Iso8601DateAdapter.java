@@ -0,0 +1,263 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * TypeAdapter for ISO 8601 date-time values used by Globalization Pipeline
+ * service, such as <code>2017-01-02T03:04:05.678Z</code>.
+ * <p>
+ * Unlike Gson's default date adapter backed by a synchronized
+ * <code>DateFormat</code>, this implementation parses and formats dates
+ * without any locks, so multiple threads can decode responses in parallel.
+ * <p>
+ * Parsing accepts <code>yyyy-MM-dd'T'HH:mm:ss</code>, followed by optional
+ * fraction of second (digits after milliseconds are truncated) and
+ * a time zone designator - <code>Z</code>, <code>&plusmn;HH</code>,
+ * <code>&plusmn;HHmm</code> or <code>&plusmn;HH:mm</code>. Dates are
+ * always formatted in UTC with milliseconds.
+ */
+final class Iso8601DateAdapter extends TypeAdapter<Date> {
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+    private static final long MILLIS_PER_DAY = 24 * 60 * MILLIS_PER_MINUTE;
+
+    @Override
+    public Date read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String s = in.nextString();
+        try {
+            return new Date(parse(s));
+        } catch (ParseException e) {
+            throw new JsonSyntaxException(s, e);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter out, Date value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.value(format(value.getTime()));
+    }
+
+    /**
+     * Parses an ISO 8601 date-time string.
+     *
+     * @param s The date-time string.
+     * @return  Milliseconds since the epoch.
+     * @throws ParseException if the string is not a supported date-time.
+     */
+    static long parse(String s) throws ParseException {
+        int len = s.length();
+        if (len < 20
+                || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+                || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            throw new ParseException("Unsupported date format: " + s, 0);
+        }
+
+        int year = parseDigits(s, 0, 4);
+        int month = parseDigits(s, 5, 7);
+        int day = parseDigits(s, 8, 10);
+        int hour = parseDigits(s, 11, 13);
+        int minute = parseDigits(s, 14, 16);
+        int second = parseDigits(s, 17, 19);
+
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            throw new ParseException("Invalid date: " + s, 0);
+        }
+
+        int pos = 19;
+        int millis = 0;
+        if (s.charAt(pos) == '.') {
+            pos++;
+            int start = pos;
+            while (pos < len && isDigit(s.charAt(pos))) {
+                if (pos - start < 3) {
+                    millis = millis * 10 + (s.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            int digits = pos - start;
+            if (digits == 0) {
+                throw new ParseException("Missing fraction of second: " + s, pos);
+            }
+            for (int i = digits; i < 3; i++) {
+                millis *= 10;
+            }
+        }
+
+        // time zone designator
+        if (pos >= len) {
+            throw new ParseException("Missing time zone: " + s, pos);
+        }
+        int offsetMinutes;
+        char c = s.charAt(pos);
+        if (c == 'Z') {
+            offsetMinutes = 0;
+            pos++;
+        } else if (c == '+' || c == '-') {
+            pos++;
+            if (pos + 2 > len) {
+                throw new ParseException("Invalid time zone: " + s, pos);
+            }
+            int offsetHours = parseDigits(s, pos, pos + 2);
+            pos += 2;
+            int offsetMins = 0;
+            if (pos < len) {
+                if (s.charAt(pos) == ':') {
+                    pos++;
+                }
+                if (pos + 2 > len) {
+                    throw new ParseException("Invalid time zone: " + s, pos);
+                }
+                offsetMins = parseDigits(s, pos, pos + 2);
+                pos += 2;
+            }
+            if (offsetHours > 23 || offsetMins > 59) {
+                throw new ParseException("Invalid time zone: " + s, pos);
+            }
+            offsetMinutes = offsetHours * 60 + offsetMins;
+            if (c == '-') {
+                offsetMinutes = -offsetMinutes;
+            }
+        } else {
+            throw new ParseException("Invalid time zone: " + s, pos);
+        }
+        if (pos != len) {
+            throw new ParseException("Unexpected trailing characters: " + s, pos);
+        }
+
+        long days = daysFromCivil(year, month, day);
+        return days * MILLIS_PER_DAY
+                + ((hour * 60L + minute) * 60L + second) * 1000L + millis
+                - offsetMinutes * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * Formats the time in UTC, such as <code>2017-01-02T03:04:05.678Z</code>.
+     *
+     * @param time  Milliseconds since the epoch.
+     * @return  The formatted date-time string.
+     */
+    static String format(long time) {
+        long days = floorDiv(time, MILLIS_PER_DAY);
+        int millisOfDay = (int) (time - days * MILLIS_PER_DAY);
+
+        // civil date from days since the epoch
+        long z = days + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        StringBuilder buf = new StringBuilder(24);
+        if (year >= 0 && year <= 9999) {
+            appendDigits(buf, (int) year, 4);
+        } else {
+            buf.append(year);
+        }
+        buf.append('-');
+        appendDigits(buf, month, 2);
+        buf.append('-');
+        appendDigits(buf, day, 2);
+        buf.append('T');
+        appendDigits(buf, millisOfDay / 3600000, 2);
+        buf.append(':');
+        appendDigits(buf, millisOfDay / 60000 % 60, 2);
+        buf.append(':');
+        appendDigits(buf, millisOfDay / 1000 % 60, 2);
+        buf.append('.');
+        appendDigits(buf, millisOfDay % 1000, 3);
+        buf.append('Z');
+        return buf.toString();
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = (int) (y - era * 400);
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            return leap ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    private static int parseDigits(String s, int start, int end) throws ParseException {
+        int val = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                throw new ParseException("Digit expected: " + s, i);
+            }
+            val = val * 10 + (c - '0');
+        }
+        return val;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static void appendDigits(StringBuilder buf, int val, int width) {
+        String digits = Integer.toString(val);
+        for (int i = digits.length(); i < width; i++) {
+            buf.append('0');
+        }
+        buf.append(digits);
+    }
+
+    // Math.floorDiv is not available in Java 7
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0)) {
+            q--;
+        }
+        return q;
+    }
+}
@@ -15,10 +15,24 @@
  */
 package com.ibm.g11n.pipeline.client.impl;
 
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextBoolean;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextInteger;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextSharedString;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextString;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringList;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringMap;
+
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.ibm.g11n.pipeline.client.ResourceEntryData;
 import com.ibm.g11n.pipeline.client.TranslationStatus;
 
@@ -112,5 +126,70 @@ class ResourceEntryDataImpl extends ResourceEntryData {
         public Integer getSequenceNumber() {
             return sequenceNumber;
         }
+
+        /**
+         * Streaming JSON reader for RestResourceEntry.
+         */
+        static final class JsonAdapter extends TypeAdapter<RestResourceEntry> {
+            private final TypeAdapter<RestResourceEntry> delegate;
+            private final TypeAdapter<Date> dateAdapter;
+            private final TypeAdapter<TranslationStatus> translationStatusAdapter;
+
+            JsonAdapter(Gson gson, TypeAdapter<RestResourceEntry> delegate) {
+                this.delegate = delegate;
+                this.dateAdapter = gson.getAdapter(Date.class);
+                this.translationStatusAdapter = gson.getAdapter(TranslationStatus.class);
+            }
+
+            @Override
+            public void write(JsonWriter out, RestResourceEntry value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public RestResourceEntry read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                RestResourceEntry entry = new RestResourceEntry();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    switch (name) {
+                    case "value":
+                        entry.value = nextString(in);
+                        break;
+                    case "sourceValue":
+                        entry.sourceValue = nextString(in);
+                        break;
+                    case "reviewed":
+                        entry.reviewed = nextBoolean(in);
+                        break;
+                    case "translationStatus":
+                        entry.translationStatus = translationStatusAdapter.read(in);
+                        break;
+                    case "notes":
+                        entry.notes = nextStringList(in);
+                        break;
+                    case "metadata":
+                        entry.metadata = nextStringMap(in);
+                        break;
+                    case "partnerStatus":
+                        entry.partnerStatus = nextSharedString(in);
+                        break;
+                    case "sequenceNumber":
+                        entry.sequenceNumber = nextInteger(in);
+                        break;
+                    default:
+                        if (!entry.readField(name, in, dateAdapter)) {
+                            in.skipValue();
+                        }
+                    }
+                }
+                in.endObject();
+                return entry;
+            }
+        }
     }
 }
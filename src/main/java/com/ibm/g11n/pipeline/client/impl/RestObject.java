@@ -15,8 +15,12 @@
  */
 package com.ibm.g11n.pipeline.client.impl;
 
+import java.io.IOException;
 import java.util.Date;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
 /**
  * The base data object used for deserializing JSON response from
  * Globalization Pipeline service.
@@ -40,4 +44,29 @@ abstract class RestObject {
     public Date getUpdatedAt() {
         return updatedAt;
     }
+
+    /**
+     * Reads a field defined by this class from JSON. This method is
+     * used by streaming type adapters for subclasses.
+     *
+     * @param name          The field name.
+     * @param in            The JsonReader positioned at the field value.
+     * @param dateAdapter   The TypeAdapter used for reading date values.
+     * @return  true if the field was consumed, false if the field is not
+     *          defined by this class.
+     * @throws IOException if the field value could not be read.
+     */
+    boolean readField(String name, JsonReader in, TypeAdapter<Date> dateAdapter)
+            throws IOException {
+        switch (name) {
+        case "updatedBy":
+            updatedBy = RestTypeAdapterFactory.nextSharedString(in);
+            return true;
+        case "updatedAt":
+            updatedAt = dateAdapter.read(in);
+            return true;
+        default:
+            return false;
+        }
+    }
 }
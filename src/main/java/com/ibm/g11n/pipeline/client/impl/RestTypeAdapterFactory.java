@@ -0,0 +1,274 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.g11n.pipeline.client.impl.BundleDataImpl.RestBundle;
+import com.ibm.g11n.pipeline.client.impl.ResourceEntryDataImpl.RestResourceEntry;
+import com.ibm.g11n.pipeline.client.impl.SegmentDataImpl.RestSegmentData;
+import com.ibm.g11n.pipeline.client.impl.ServiceResponse.Status;
+import com.ibm.g11n.pipeline.client.impl.TranslationRequestDataImpl.RestTranslationRequest;
+
+/**
+ * TypeAdapterFactory providing streaming JSON readers for frequently
+ * decoded Rest* data objects. These readers populate the objects directly
+ * from JsonReader without Gson's reflective field access. Serialization
+ * is delegated to the default (reflective) adapter, because these objects
+ * are only used for reading service responses.
+ * <p>
+ * Date and enum values are read by the adapters registered to the Gson
+ * object, so the date format and the enum fallback behavior are same
+ * as the reflective adapters.
+ */
+class RestTypeAdapterFactory implements TypeAdapterFactory {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class<?> rawType = typeToken.getRawType();
+        TypeAdapter<?> adapter;
+        if (rawType == RestResourceEntry.class) {
+            adapter = new RestResourceEntry.JsonAdapter(gson,
+                    (TypeAdapter<RestResourceEntry>) gson.getDelegateAdapter(this, typeToken));
+        } else if (rawType == RestSegmentData.class) {
+            adapter = new RestSegmentData.JsonAdapter(gson,
+                    (TypeAdapter<RestSegmentData>) gson.getDelegateAdapter(this, typeToken));
+        } else if (rawType == RestBundle.class) {
+            adapter = new RestBundle.JsonAdapter(gson,
+                    (TypeAdapter<RestBundle>) gson.getDelegateAdapter(this, typeToken));
+        } else if (rawType == RestTranslationRequest.class) {
+            adapter = new RestTranslationRequest.JsonAdapter(gson,
+                    (TypeAdapter<RestTranslationRequest>) gson.getDelegateAdapter(this, typeToken));
+        } else {
+            return null;
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * TypeAdapterFactory for a ServiceResponse carrying a single map
+     * of objects, such as resource entries in a bundle. Other than status
+     * and message, only the named map field is read; unknown fields are
+     * skipped.
+     *
+     * @param <R>   The response type.
+     * @param <V>   The map value type.
+     */
+    abstract static class MapResponseAdapterFactory<R extends ServiceResponse, V>
+            implements TypeAdapterFactory {
+        private final Class<R> responseType;
+        private final String mapFieldName;
+        private final Class<V> valueType;
+
+        MapResponseAdapterFactory(Class<R> responseType, String mapFieldName, Class<V> valueType) {
+            this.responseType = responseType;
+            this.mapFieldName = mapFieldName;
+            this.valueType = valueType;
+        }
+
+        /**
+         * Creates a new empty response object.
+         *
+         * @return A new response object.
+         */
+        abstract R newResponse();
+
+        /**
+         * Sets the map read from JSON to the response object.
+         *
+         * @param response  The response object.
+         * @param map       The map, or null if the field was null.
+         */
+        abstract void setMap(R response, Map<String, V> map);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+            if (typeToken.getRawType() != responseType) {
+                return null;
+            }
+            final TypeAdapter<R> delegate = (TypeAdapter<R>) gson.getDelegateAdapter(this, typeToken);
+            final TypeAdapter<V> valueAdapter = gson.getAdapter(valueType);
+            TypeAdapter<R> adapter = new TypeAdapter<R>() {
+                @Override
+                public void write(JsonWriter out, R value) throws IOException {
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public R read(JsonReader in) throws IOException {
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        return null;
+                    }
+                    R response = newResponse();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String name = in.nextName();
+                        if (name.equals(mapFieldName)) {
+                            setMap(response, nextMap(in, valueAdapter));
+                        } else if (!response.readField(name, in)) {
+                            in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return response;
+                }
+            };
+            return (TypeAdapter<T>) adapter;
+        }
+    }
+
+    //
+    // Helper methods used by the streaming adapters. All of them accept
+    // JSON null and return null (or false for boolean) in the case.
+    //
+
+    static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Reads a string value of a low-cardinality field, such as a language
+     * tag. The returned instance may be shared with other decoded objects.
+     */
+    static String nextSharedString(JsonReader in) throws IOException {
+        return StringDeduplicator.dedup(nextString(in));
+    }
+
+    static boolean nextBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return false;
+        }
+        return in.nextBoolean();
+    }
+
+    static Integer nextInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return Integer.valueOf(in.nextInt());
+    }
+
+    static Status nextStatus(JsonReader in) throws IOException {
+        String s = nextString(in);
+        if (s == null) {
+            return null;
+        }
+        try {
+            return Status.valueOf(s);
+        } catch (IllegalArgumentException e) {
+            // same as Gson's default enum adapter
+            return null;
+        }
+    }
+
+    static List<String> nextStringList(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> list = new ArrayList<String>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(nextString(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    static Set<String> nextStringSet(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Set<String> set = new LinkedHashSet<String>();
+        in.beginArray();
+        while (in.hasNext()) {
+            // used for language tags and other enum-like values
+            set.add(nextSharedString(in));
+        }
+        in.endArray();
+        return set;
+    }
+
+    static Map<String, String> nextStringMap(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        in.beginObject();
+        while (in.hasNext()) {
+            // used for metadata and parameters with repeated keys
+            String key = StringDeduplicator.dedup(in.nextName());
+            map.put(key, nextString(in));
+        }
+        in.endObject();
+        return map;
+    }
+
+    static Map<String, Set<String>> nextStringSetMap(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, Set<String>> map = new LinkedHashMap<String, Set<String>>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            map.put(key, nextStringSet(in));
+        }
+        in.endObject();
+        return map;
+    }
+
+    static <V> Map<String, V> nextMap(JsonReader in, TypeAdapter<V> valueAdapter)
+            throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, V> map = new LinkedHashMap<String, V>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            map.put(key, valueAdapter.read(in));
+        }
+        in.endObject();
+        return map;
+    }
+}
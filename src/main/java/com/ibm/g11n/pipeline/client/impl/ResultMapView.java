@@ -0,0 +1,207 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.google.common.collect.Maps.EntryTransformer;
+
+/**
+ * An immutable map view of a decoded result map, converting each value into
+ * a public data object when the value is first accessed.
+ * <p>
+ * Unlike a map filled with converted values, this view allocates a few
+ * arrays instead of an entry object and a data object per entry. A converted
+ * value is kept, so the same instance is returned by later accesses. This
+ * class is thread safe.
+ *
+ * @param <V1> The type of decoded values.
+ * @param <V2> The type of converted values.
+ */
+final class ResultMapView<V1, V2> extends AbstractMap<String, V2> {
+
+    // Keys in the iteration order
+    private final String[] keys;
+    private final Object[] rawValues;
+    private final AtomicReferenceArray<V2> values;
+    private final EntryTransformer<String, ? super V1, ? extends V2> transformer;
+    // Open-addressing hash table storing index + 1 of keys, 0 for empty slot
+    private final int[] table;
+
+    /**
+     * Constructor.
+     *
+     * @param restMap       The decoded map. Must not contain a null key.
+     * @param transformer   The transformer converting a decoded value.
+     * @param sorted        Whether the view is sorted by keys. If false, the
+     *                      iteration order of the decoded map is kept.
+     */
+    ResultMapView(Map<String, V1> restMap,
+            EntryTransformer<String, ? super V1, ? extends V2> transformer, boolean sorted) {
+        int size = restMap.size();
+        keys = restMap.keySet().toArray(new String[size]);
+        if (sorted) {
+            Arrays.sort(keys);
+        }
+        rawValues = new Object[size];
+        for (int i = 0; i < size; i++) {
+            rawValues[i] = restMap.get(keys[i]);
+        }
+        values = new AtomicReferenceArray<>(size);
+        this.transformer = transformer;
+
+        // load factor <= 0.5
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        int mask = capacity - 1;
+        table = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V2 valueAt(int idx) {
+        V2 value = values.get(idx);
+        if (value == null) {
+            value = transformer.transformEntry(keys[idx], (V1) rawValues[idx]);
+            if (!values.compareAndSet(idx, null, value)) {
+                value = values.get(idx);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public V2 get(Object key) {
+        int idx = indexOf(key);
+        return idx < 0 ? null : valueAt(idx);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        // Keys are iterated without converting values
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new IndexIterator<String>() {
+                    @Override
+                    String get(int idx) {
+                        return keys[idx];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, V2>> entrySet() {
+        return new AbstractSet<Entry<String, V2>>() {
+            @Override
+            public Iterator<Entry<String, V2>> iterator() {
+                return new IndexIterator<Entry<String, V2>>() {
+                    @Override
+                    Entry<String, V2> get(int idx) {
+                        return new SimpleImmutableEntry<String, V2>(keys[idx], valueAt(idx));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    /**
+     * Read-only iterator over the indexes of entries.
+     */
+    private abstract class IndexIterator<E> implements Iterator<E> {
+        private int next = 0;
+
+        abstract E get(int idx);
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public E next() {
+            if (next >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            return get(next++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
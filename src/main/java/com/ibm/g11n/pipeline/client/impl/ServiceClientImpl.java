@@ -23,7 +23,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URL;
@@ -31,22 +34,33 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
+import com.google.common.base.CaseFormat;
 import com.google.common.base.Strings;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Maps.EntryTransformer;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
 import com.google.common.net.UrlEscapers;
@@ -61,13 +75,16 @@ import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.ibm.g11n.pipeline.client.BundleData;
 import com.ibm.g11n.pipeline.client.BundleDataChangeSet;
+import com.ibm.g11n.pipeline.client.BundleField;
 import com.ibm.g11n.pipeline.client.BundleMetrics;
 import com.ibm.g11n.pipeline.client.DocumentData;
 import com.ibm.g11n.pipeline.client.DocumentDataChangeSet;
+import com.ibm.g11n.pipeline.client.DocumentField;
 import com.ibm.g11n.pipeline.client.DocumentMetrics;
 import com.ibm.g11n.pipeline.client.DocumentTranslationRequestData;
 import com.ibm.g11n.pipeline.client.DocumentTranslationRequestDataChangeSet;
 import com.ibm.g11n.pipeline.client.DocumentType;
+import com.ibm.g11n.pipeline.client.JsonCodec;
 import com.ibm.g11n.pipeline.client.LanguageMetrics;
 import com.ibm.g11n.pipeline.client.MTServiceBindingData;
 import com.ibm.g11n.pipeline.client.NewBundleData;
@@ -79,6 +96,7 @@ import com.ibm.g11n.pipeline.client.NewTranslationRequestData;
 import com.ibm.g11n.pipeline.client.NewUserData;
 import com.ibm.g11n.pipeline.client.ResourceEntryData;
 import com.ibm.g11n.pipeline.client.ResourceEntryDataChangeSet;
+import com.ibm.g11n.pipeline.client.ResourceEntryField;
 import com.ibm.g11n.pipeline.client.ReviewStatusMetrics;
 import com.ibm.g11n.pipeline.client.SegmentData;
 import com.ibm.g11n.pipeline.client.ServiceAccount;
@@ -89,6 +107,7 @@ import com.ibm.g11n.pipeline.client.ServiceInstanceInfo;
 import com.ibm.g11n.pipeline.client.TranslationConfigData;
 import com.ibm.g11n.pipeline.client.TranslationRequestData;
 import com.ibm.g11n.pipeline.client.TranslationRequestDataChangeSet;
+import com.ibm.g11n.pipeline.client.TranslationRequestField;
 import com.ibm.g11n.pipeline.client.TranslationRequestStatus;
 import com.ibm.g11n.pipeline.client.TranslationStatus;
 import com.ibm.g11n.pipeline.client.UserData;
@@ -99,6 +118,7 @@ import com.ibm.g11n.pipeline.client.impl.DocumentTranslationRequestDataImpl.Rest
 import com.ibm.g11n.pipeline.client.impl.DocumentTranslationRequestDataImpl.RestInputDocumentTranslationRequestData;
 import com.ibm.g11n.pipeline.client.impl.MTServiceBindingDataImpl.RestMTServiceBinding;
 import com.ibm.g11n.pipeline.client.impl.ResourceEntryDataImpl.RestResourceEntry;
+import com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.MapResponseAdapterFactory;
 import com.ibm.g11n.pipeline.client.impl.SegmentDataImpl.RestSegmentData;
 import com.ibm.g11n.pipeline.client.impl.ServiceInfoImpl.ExternalServiceInfoImpl.RestExternalServiceInfo;
 import com.ibm.g11n.pipeline.client.impl.ServiceInstanceInfoImpl.RestServiceInstanceInfo;
@@ -110,16 +130,53 @@ import com.ibm.g11n.pipeline.client.impl.UserDataImpl.RestUser;
 import com.ibm.g11n.pipeline.iam.TokenManagerException;
 
 /**
- * ServiceClient implementation by GSON and JDK's HttpURLConnection.
+ * ServiceClient implementation by JDK's HttpURLConnection. JSON mapping is
+ * done by {@link JsonCodec}, implemented by GSON by default.
  * 
  * @author Yoshito Umaoka
  */
 public class ServiceClientImpl extends ServiceClient {
 
+    private static final Logger logger = Logger.getLogger(ServiceClientImpl.class.getName());
+
     public ServiceClientImpl(ServiceAccount account) {
         super(account);
     }
 
+    /**
+     * Returns the default JsonCodec, which is the codec registered by
+     * ServiceLoader, or the codec implemented by Gson. The registered codec
+     * is looked up when this method is called first.
+     *
+     * @return The default JsonCodec.
+     */
+    public static JsonCodec getDefaultJsonCodec() {
+        return DefaultJsonCodecHolder.INSTANCE;
+    }
+
+    private static class DefaultJsonCodecHolder {
+        static final JsonCodec INSTANCE =
+                loadJsonCodec(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Returns the JsonCodec registered by ServiceLoader, or the default
+     * codec implemented by Gson. A misconfigured provider does not prevent
+     * the client from working, and the codec implemented by Gson is used.
+     */
+    static JsonCodec loadJsonCodec(ClassLoader loader) {
+        try {
+            Iterator<JsonCodec> codecs = ServiceLoader.load(JsonCodec.class, loader).iterator();
+            if (codecs.hasNext()) {
+                return codecs.next();
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.log(Level.WARNING, "Could not load the registered JsonCodec,"
+                    + " the default codec is used instead.", e);
+        }
+        return new GsonJsonCodec(createGson(null));
+    }
+
     //
     // Service API
     //
@@ -202,8 +259,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("newBundleData must be specified.");
         }
 
-        Gson gson = createGson(NewBundleData.class.getName());
-        String jsonBody = gson.toJson(newBundleData, NewBundleData.class);
+        String jsonBody = toJson(newBundleData, NewBundleData.class);
         ServiceResponse resp = invokeApiJson(
                 "PUT",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
@@ -222,6 +278,12 @@ public class ServiceClientImpl extends ServiceClient {
 
     @Override
     public BundleData getBundleInfo(String bundleId) throws ServiceException {
+        return getBundleInfo(bundleId, null);
+    }
+
+    @Override
+    public BundleData getBundleInfo(String bundleId, Set<BundleField> fields)
+            throws ServiceException {
         if (bundleId == null || bundleId.isEmpty()) {
             throw new IllegalArgumentException("bundleId must be specified.");
         }
@@ -229,7 +291,8 @@ public class ServiceClientImpl extends ServiceClient {
         GetBundleInfoResponse resp = invokeApiJson(
                 "GET",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
-                    + escapePathSegment(bundleId),
+                    + escapePathSegment(bundleId)
+                    + fieldsQuery("bundle", fields),
                 null,
                 GetBundleInfoResponse.class);
 
@@ -280,8 +343,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("changeSet must be specified.");
         }
 
-        Gson gson = createGson(BundleDataChangeSet.class.getName());
-        String jsonBody = gson.toJson(changeSet, BundleDataChangeSet.class);
+        String jsonBody = toJson(changeSet, BundleDataChangeSet.class);
         ServiceResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
@@ -357,6 +419,12 @@ public class ServiceClientImpl extends ServiceClient {
     @Override
     public Map<String, ResourceEntryData> getResourceEntries(String bundleId,
             String language) throws ServiceException {
+        return getResourceEntries(bundleId, language, null);
+    }
+
+    @Override
+    public Map<String, ResourceEntryData> getResourceEntries(String bundleId,
+            String language, Set<ResourceEntryField> fields) throws ServiceException {
         if (bundleId == null || bundleId.isEmpty()) {
             throw new IllegalArgumentException("bundleId must be specified.");
         }
@@ -368,7 +436,9 @@ public class ServiceClientImpl extends ServiceClient {
                 "GET",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
                     + escapePathSegment(bundleId) + "/" + language
-                    + "?fields=resourceEntries",
+                    + (fields == null || fields.isEmpty()
+                        ? "?fields=resourceEntries"
+                        : fieldsQuery("resourceEntries", fields)),
                 null,
                 GetResourceEntriesResponse.class);
 
@@ -376,14 +446,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, ResourceEntryData> resultEntries = new TreeMap<String, ResourceEntryData>();
-        if (resp.resourceEntries != null && !resp.resourceEntries.isEmpty()) {
-            for (Entry<String, RestResourceEntry> entry : resp.resourceEntries.entrySet()) {
-                resultEntries.put(entry.getKey(),
-                        new ResourceEntryDataImpl(entry.getValue()));
-            }
-        }
-        return resultEntries;
+        return toResultMap(resp.resourceEntries, RESOURCE_ENTRY_TRANSFORMER);
     }
 
     private static class GetLanguageMetricsResponse extends ServiceResponse {
@@ -453,14 +516,15 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("newResourceEntries must be specified.");
         }
 
-        Gson gson = createGson(Map.class.getName());
-        String jsonBody = gson.toJson(newResourceEntries, Map.class);
-        ServiceResponse resp = invokeApiJson(
+        // The map is serialized directly to the request stream
+        RequestBody jsonBody = new JsonRequestBody(jsonCodec, newResourceEntries, Map.class);
+        ServiceResponse resp = invokeApiJsonWithBody(
                 "PUT",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
                     + escapePathSegment(bundleId) + "/" + language,
                 jsonBody,
-                ServiceResponse.class);
+                ServiceResponse.class,
+                false);
 
         if (resp.getStatus() == Status.ERROR) {
             throw new ServiceException(resp.getMessage());
@@ -504,20 +568,21 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("language must be specified.");
         }
 
-        String jsonBody = null;
+        RequestBody jsonBody = null;
         if (resourceEntries == null || resourceEntries.isEmpty()) {
-            jsonBody = "{}";
+            jsonBody = new ByteArrayRequestBody("{}".getBytes(StandardCharsets.UTF_8));
         } else {
-            Gson gson = createGson(Map.class.getName());
-            jsonBody = gson.toJson(resourceEntries, Map.class);
+            // The map is serialized directly to the request stream
+            jsonBody = new JsonRequestBody(jsonCodec, resourceEntries, Map.class);
         }
 
-        ServiceResponse resp = invokeApiJson(
+        ServiceResponse resp = invokeApiJsonWithBody(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
                     + escapePathSegment(bundleId) + "/" + language,
                 jsonBody,
-                ServiceResponse.class);
+                ServiceResponse.class,
+                false);
 
         if (resp.getStatus() == Status.ERROR) {
             throw new ServiceException(resp.getMessage());
@@ -573,8 +638,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("changeSet must be specified.");
         }
 
-        Gson gson = createGson(ResourceEntryDataChangeSet.class.getName());
-        String jsonBody = gson.toJson(changeSet, ResourceEntryDataChangeSet.class);
+        String jsonBody = toJson(changeSet, ResourceEntryDataChangeSet.class);
         ServiceResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/bundles/"
@@ -624,8 +688,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("newDocumentData must be specified.");
         }
 
-        Gson gson = createGson(NewBundleData.class.getName());
-        String jsonBody = gson.toJson(newDocumentData, NewDocumentData.class);
+        String jsonBody = toJson(newDocumentData, NewDocumentData.class);
         ServiceResponse resp = invokeApiJson(
                 "PUT",
                 escapePathSegment(account.getInstanceId()) + "/v2/documents/"
@@ -645,6 +708,12 @@ public class ServiceClientImpl extends ServiceClient {
 
     @Override
     public DocumentData getDocumentInfo(DocumentType type, String documentId) throws ServiceException {
+        return getDocumentInfo(type, documentId, null);
+    }
+
+    @Override
+    public DocumentData getDocumentInfo(DocumentType type, String documentId,
+            Set<DocumentField> fields) throws ServiceException {
         if (Strings.isNullOrEmpty(documentId)) {
             throw new IllegalArgumentException("documentId must be specified.");
         }
@@ -653,7 +722,8 @@ public class ServiceClientImpl extends ServiceClient {
                 "GET",
                 escapePathSegment(account.getInstanceId()) + "/v2/documents/"
                     + type.toString().toLowerCase() + "/"
-                    + escapePathSegment(documentId),
+                    + escapePathSegment(documentId)
+                    + fieldsQuery("documentData", fields, "documentId", "type"),
                 null,
                 GetDocumentInfoResponse.class);
 
@@ -702,8 +772,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("changeSet must be specified.");
         }
 
-        Gson gson = createGson(DocumentDataChangeSet.class.getName());
-        String jsonBody = gson.toJson(changeSet, DocumentDataChangeSet.class);
+        String jsonBody = toJson(changeSet, DocumentDataChangeSet.class);
         ServiceResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/documents/"
@@ -831,14 +900,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, UserData> resultUsers = new TreeMap<String, UserData>();
-        for (Entry<String, RestUser> userEntry : resp.users.entrySet()) {
-            String id = userEntry.getKey();
-            RestUser user = userEntry.getValue();
-            resultUsers.put(id, new UserDataImpl(user));
-        }
-
-        return resultUsers;
+        return toResultMap(resp.users, USER_TRANSFORMER);
     }
 
     private static class UserResponse extends ServiceResponse {
@@ -854,8 +916,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("newUserData must be specified.");
         }
 
-        Gson gson = createGson(NewUserData.class.getName());
-        String jsonBody = gson.toJson(newUserData, NewUserData.class);
+        String jsonBody = toJson(newUserData, NewUserData.class);
         UserResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/users/new",
@@ -912,8 +973,7 @@ public class ServiceClientImpl extends ServiceClient {
         if (changeSet == null) {
             jsonBody = "{}";
         } else {
-            Gson gson = createGson(UserDataChangeSet.class.getName());
-            jsonBody = gson.toJson(changeSet, UserDataChangeSet.class);
+            jsonBody = toJson(changeSet, UserDataChangeSet.class);
         }
 
         UserResponse resp = invokeApiJson(
@@ -968,11 +1028,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, MTServiceBindingData> resultBindings = new TreeMap<>();
-        for (Entry<String, RestMTServiceBinding> entry : resp.mtServiceBindings.entrySet()) {
-            resultBindings.put(entry.getKey(), new MTServiceBindingDataImpl(entry.getValue()));
-        }
-        return resultBindings;
+        return toResultMap(resp.mtServiceBindings, MT_SERVICE_BINDING_TRANSFORMER);
     }
 
     private static class AvailableMTLanguagesResponse extends ServiceResponse {
@@ -1063,8 +1119,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new IllegalArgumentException("configData must be specified");
         }
 
-        Gson gson = createGson(NewTranslationConfigData.class.getName());
-        String jsonBody = gson.toJson(configData, NewTranslationConfigData.class);
+        String jsonBody = toJson(configData, NewTranslationConfigData.class);
 
         ServiceResponse resp = invokeApiJson(
                 "PUT",
@@ -1140,14 +1195,27 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, TranslationRequestData> resultTRs = new TreeMap<>();
-        for (Entry<String, RestTranslationRequest> trEntry : resp.translationRequests.entrySet()) {
-            String id = trEntry.getKey();
-            RestTranslationRequest tr = trEntry.getValue();
-            resultTRs.put(id, new TranslationRequestDataImpl(id, tr));
+        return toResultMap(resp.translationRequests, TRANSLATION_REQUEST_TRANSFORMER);
+    }
+
+    /* (non-Javadoc)
+     * @see com.ibm.g11n.pipeline.client.ServiceClient#getTranslationRequests(java.util.Set)
+     */
+    @Override
+    public Map<String, TranslationRequestData> getTranslationRequests(
+            Set<TranslationRequestField> fields) throws ServiceException {
+        GetTranslationRequestsResponse resp = invokeApiJson(
+                "GET",
+                escapePathSegment(account.getInstanceId()) + "/v2/trs"
+                    + fieldsQuery("translationRequests", fields, "status"),
+                null,
+                GetTranslationRequestsResponse.class);
+
+        if (resp.getStatus() == Status.ERROR) {
+            throw new ServiceException(resp.getMessage());
         }
 
-        return resultTRs;
+        return toResultMap(resp.translationRequests, TRANSLATION_REQUEST_TRANSFORMER);
     }
 
 
@@ -1181,6 +1249,31 @@ public class ServiceClientImpl extends ServiceClient {
         return new TranslationRequestDataImpl(resp.id, resp.translationRequest);
     }
 
+    /* (non-Javadoc)
+     * @see com.ibm.g11n.pipeline.client.ServiceClient#getTranslationRequest(java.lang.String, java.util.Set)
+     */
+    @Override
+    public TranslationRequestData getTranslationRequest(String trId,
+            Set<TranslationRequestField> fields) throws ServiceException {
+        if (trId == null || trId.isEmpty()) {
+            throw new IllegalArgumentException("Non-empty trId must be specified.");
+        }
+
+        TranslationRequestResponse resp = invokeApiJson(
+                "GET",
+                escapePathSegment(account.getInstanceId()) + "/v2/trs/"
+                    + escapePathSegment(trId)
+                    + fieldsQuery("translationRequest", fields, "status"),
+                null,
+                TranslationRequestResponse.class);
+
+        if (resp.getStatus() == Status.ERROR) {
+            throw new ServiceException(resp.getMessage());
+        }
+
+        return new TranslationRequestDataImpl(resp.id, resp.translationRequest);
+    }
+
     /* (non-Javadoc)
      * @see com.ibm.g11n.pipeline.client.ServiceClient#createTranslationRequest(com.ibm.g11n.pipeline.client.NewTranslationRequestData, boolean)
      */
@@ -1194,8 +1287,7 @@ public class ServiceClientImpl extends ServiceClient {
         }
 
         RestInputTranslationRequestData newRestTRData = new RestInputTranslationRequestData(newTranslationRequestData);
-        Gson gson = createGson(RestInputTranslationRequestData.class.getName());
-        String jsonBody = gson.toJson(newRestTRData, RestInputTranslationRequestData.class);
+        String jsonBody = toJson(newRestTRData, RestInputTranslationRequestData.class);
         TranslationRequestResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/trs/new" + "?async=" + async,
@@ -1226,8 +1318,7 @@ public class ServiceClientImpl extends ServiceClient {
         }
 
         RestInputTranslationRequestData restChangeSet = new RestInputTranslationRequestData(changeSet);
-        Gson gson = createGson(RestInputTranslationRequestData.class.getName());
-        String jsonBody = gson.toJson(restChangeSet, RestInputTranslationRequestData.class);
+        String jsonBody = toJson(restChangeSet, RestInputTranslationRequestData.class);
         TranslationRequestResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/trs/"
@@ -1309,14 +1400,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, ResourceEntryData> resultEntries = new TreeMap<String, ResourceEntryData>();
-        if (resp.resourceEntries != null && !resp.resourceEntries.isEmpty()) {
-            for (Entry<String, RestResourceEntry> entry : resp.resourceEntries.entrySet()) {
-                resultEntries.put(entry.getKey(),
-                        new ResourceEntryDataImpl(entry.getValue()));
-            }
-        }
-        return resultEntries;
+        return toResultMap(resp.resourceEntries, RESOURCE_ENTRY_TRANSFORMER);
     }
 
 
@@ -1425,7 +1509,8 @@ public class ServiceClientImpl extends ServiceClient {
 
         ApiResponse resp = null;
         try {
-            resp = invokeApi(method, apiPath, "application/xliff+xml", inputXliffBytes, false);
+            resp = invokeApi(method, apiPath, "application/xliff+xml",
+                    new ByteArrayRequestBody(inputXliffBytes), false);
         } catch (Exception e) {
             String errMsg = "Error while processing API request " + method + " " + apiPath;
             throw new ServiceException(errMsg, e);
@@ -1481,10 +1566,111 @@ public class ServiceClientImpl extends ServiceClient {
     }
 
 
+    //
+    // Result map conversion
+    //
+
+    /**
+     * Converts the decoded map into a map of public data objects. By default,
+     * the result is a new mutable map. When lazy results are enabled, the
+     * result is an immutable view converting each value when first accessed.
+     * When sorted results are enabled, the result is sorted by keys; otherwise,
+     * the result keeps the order of the decoded map.
+     */
+    private <V1, V2> Map<String, V2> toResultMap(Map<String, V1> restMap,
+            EntryTransformer<String, V1, V2> transformer) {
+        if (restMap == null) {
+            restMap = Collections.emptyMap();
+        }
+        if (lazyResults) {
+            return new ResultMapView<V1, V2>(restMap, transformer, sortedResults);
+        }
+        return copyResultMap(restMap, transformer, sortedResults);
+    }
+
+    /**
+     * Converts the decoded map into a new mutable map of public data objects.
+     */
+    static <V1, V2> Map<String, V2> copyResultMap(Map<String, V1> restMap,
+            EntryTransformer<String, V1, V2> transformer, boolean sorted) {
+        Map<String, V2> result = sorted
+                ? new TreeMap<String, V2>()
+                : Maps.<String, V2>newLinkedHashMapWithExpectedSize(restMap.size());
+        for (Entry<String, V1> entry : restMap.entrySet()) {
+            result.put(entry.getKey(), transformer.transformEntry(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+    private static final EntryTransformer<String, RestResourceEntry, ResourceEntryData>
+            RESOURCE_ENTRY_TRANSFORMER =
+            new EntryTransformer<String, RestResourceEntry, ResourceEntryData>() {
+        @Override
+        public ResourceEntryData transformEntry(String key, RestResourceEntry value) {
+            return new ResourceEntryDataImpl(value);
+        }
+    };
+
+    private static final EntryTransformer<String, RestSegmentData, SegmentData>
+            SEGMENT_TRANSFORMER =
+            new EntryTransformer<String, RestSegmentData, SegmentData>() {
+        @Override
+        public SegmentData transformEntry(String key, RestSegmentData value) {
+            return new SegmentDataImpl(value);
+        }
+    };
+
+    private static final EntryTransformer<String, RestUser, UserData>
+            USER_TRANSFORMER =
+            new EntryTransformer<String, RestUser, UserData>() {
+        @Override
+        public UserData transformEntry(String key, RestUser value) {
+            return new UserDataImpl(value);
+        }
+    };
+
+    private static final EntryTransformer<String, RestMTServiceBinding, MTServiceBindingData>
+            MT_SERVICE_BINDING_TRANSFORMER =
+            new EntryTransformer<String, RestMTServiceBinding, MTServiceBindingData>() {
+        @Override
+        public MTServiceBindingData transformEntry(String key, RestMTServiceBinding value) {
+            return new MTServiceBindingDataImpl(value);
+        }
+    };
+
+    private static final EntryTransformer<String, RestTranslationRequest, TranslationRequestData>
+            TRANSLATION_REQUEST_TRANSFORMER =
+            new EntryTransformer<String, RestTranslationRequest, TranslationRequestData>() {
+        @Override
+        public TranslationRequestData transformEntry(String key, RestTranslationRequest value) {
+            return new TranslationRequestDataImpl(key, value);
+        }
+    };
+
+    private static final EntryTransformer<String, RestDocumentTranslationRequest, DocumentTranslationRequestData>
+            DOCUMENT_TRANSLATION_REQUEST_TRANSFORMER =
+            new EntryTransformer<String, RestDocumentTranslationRequest, DocumentTranslationRequestData>() {
+        @Override
+        public DocumentTranslationRequestData transformEntry(String key,
+                RestDocumentTranslationRequest value) {
+            return new DocumentTranslationRequestDataImpl(key, value);
+        }
+    };
+
     //
     // Private method used for calling REST endpoints
     //
 
+    private String toJson(Object src, Type typeOfSrc) throws ServiceException {
+        StringWriter writer = new StringWriter();
+        try {
+            jsonCodec.toJson(src, typeOfSrc, writer);
+        } catch (IOException e) {
+            throw new ServiceException("Error while serializing " + typeOfSrc + " to JSON", e);
+        }
+        return writer.toString();
+    }
+
     private <T> T invokeApiJson(String method, String apiPath, String inJson, Class<T> classOfT)
         throws ServiceException {
         return invokeApiJson(method, apiPath, inJson, classOfT, false);
@@ -1492,16 +1678,20 @@ public class ServiceClientImpl extends ServiceClient {
 
     private <T> T invokeApiJson(String method, String apiPath, String inJson, Class<T> classOfT,
             boolean anonymous) throws ServiceException {
+        // Request body in UTF-8
+        RequestBody requestBody = null;
+        if (inJson != null) {
+            requestBody = new ByteArrayRequestBody(inJson.getBytes(StandardCharsets.UTF_8));
+        }
+        return invokeApiJsonWithBody(method, apiPath, requestBody, classOfT, anonymous);
+    }
+
+    private <T> T invokeApiJsonWithBody(String method, String apiPath, RequestBody requestBody,
+            Class<T> classOfT, boolean anonymous) throws ServiceException {
 
         T responseObj = null;
         try {
-            // Request body in UTF-8
-            String contentType = null;
-            byte[] requestBody = null;
-            if (inJson != null) {
-                requestBody = inJson.getBytes(StandardCharsets.UTF_8);
-                contentType = "application/json";
-            }
+            String contentType = requestBody == null ? null : "application/json";
 
             ApiResponse resp = invokeApi(method, apiPath, contentType, requestBody, anonymous);
 
@@ -1510,11 +1700,15 @@ public class ServiceClientImpl extends ServiceClient {
                         + " with non-JSON response from " + method + " " + apiPath);
             }
 
-            Reader reader = new InputStreamReader(new ByteArrayInputStream(resp.body), StandardCharsets.UTF_8);
-            Gson gson = createGson(classOfT.getName());
-            responseObj = gson.fromJson(reader, classOfT);
-            
-
+            if (resp.body.length > 0) {
+                Reader reader = new InputStreamReader(new ByteArrayInputStream(resp.body), StandardCharsets.UTF_8);
+                responseObj = jsonCodec.fromJson(reader, classOfT);
+            }
+            if (responseObj == null) {
+                // For example, the body of 401 response to a streamed request
+                // is not available.
+                throw new ServiceException("Received HTTP status: " + resp.status);
+            }
         } catch (Exception e) {
             // Error handling
             String errMsg = "Error while processing API request " + method + " " + apiPath;
@@ -1527,15 +1721,14 @@ public class ServiceClientImpl extends ServiceClient {
     private <T> T invokeApiInputStream(String method, String apiPath, String contentType, FileInputStream fis, Class<T> classOfT,
             boolean anonymous) throws ServiceException {
 
-        byte[] requestBody = null;
+        RequestBody requestBody = null;
         T responseObj = null;
         try {
-            requestBody = ByteStreams.toByteArray((InputStream) fis);
+            requestBody = new ByteArrayRequestBody(ByteStreams.toByteArray((InputStream) fis));
             ApiResponse resp = invokeApi(method, apiPath, contentType, requestBody, anonymous);
 
             Reader reader = new InputStreamReader(new ByteArrayInputStream(resp.body), StandardCharsets.UTF_8);
-            Gson gson = createGson(classOfT.getName());
-            responseObj = gson.fromJson(reader, classOfT);
+            responseObj = jsonCodec.fromJson(reader, classOfT);
 
         } catch (Exception e) {
             // Error handling
@@ -1552,8 +1745,130 @@ public class ServiceClientImpl extends ServiceClient {
         byte[] body;
     }
 
-    private ApiResponse invokeApi(String method, String apiPath, String inContentType, byte[] inBody,
+    /**
+     * Request body written to a connection. A request body might be
+     * written more than once, because a request rejected by 401 is
+     * replayed.
+     */
+    private static abstract class RequestBody {
+        /**
+         * Returns the length of the body in bytes, or -1 if the length
+         * is not known until the body is written.
+         */
+        abstract long getLength();
+
+        abstract void writeTo(OutputStream os) throws IOException;
+
+        byte[] toByteArray() throws IOException {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            writeTo(baos);
+            return baos.toByteArray();
+        }
+
+        /**
+         * Returns a request body holding the entire content in memory.
+         */
+        RequestBody buffered() throws IOException {
+            return new ByteArrayRequestBody(toByteArray());
+        }
+    }
+
+    private static class ByteArrayRequestBody extends RequestBody {
+        private final byte[] bytes;
+
+        ByteArrayRequestBody(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        long getLength() {
+            return bytes.length;
+        }
+
+        @Override
+        void writeTo(OutputStream os) throws IOException {
+            os.write(bytes);
+        }
+
+        @Override
+        byte[] toByteArray() {
+            return bytes;
+        }
+
+        @Override
+        RequestBody buffered() {
+            return this;
+        }
+    }
+
+    /**
+     * Request body serializing an object to JSON in UTF-8 while
+     * it is written, without creating the entire JSON text in memory.
+     */
+    private static class JsonRequestBody extends RequestBody {
+        private final JsonCodec codec;
+        private final Object src;
+        private final Type srcType;
+
+        JsonRequestBody(JsonCodec codec, Object src, Type srcType) {
+            this.codec = codec;
+            this.src = src;
+            this.srcType = srcType;
+        }
+
+        @Override
+        long getLength() {
+            return -1;
+        }
+
+        @Override
+        void writeTo(OutputStream os) throws IOException {
+            Writer writer = new OutputStreamWriter(os, StandardCharsets.UTF_8);
+            codec.toJson(src, srcType, writer);
+            writer.flush();
+        }
+    }
+
+    private ApiResponse invokeApi(String method, String apiPath, String inContentType, RequestBody inBody,
             boolean anonymous) throws IOException,TokenManagerException {
+        String iamToken = null;
+        if (!anonymous && account.isIamEnabled()) {
+            iamToken = account.getIamToken();
+        } else if (!anonymous && scheme == AuthScheme.HMAC && inBody != null) {
+            // HMAC credential is calculated from the entire request body
+            inBody = inBody.buffered();
+        }
+
+        ApiResponse resp = invokeApi(method, apiPath, inContentType, inBody, anonymous, iamToken);
+
+        if (resp.status == HttpURLConnection.HTTP_UNAUTHORIZED && iamToken != null) {
+            // The IAM token might be revoked, or expired earlier than expected.
+            // Replace the token (only one refresh is made for concurrent requests
+            // rejected with the same token), then replay the request once.
+            String newIamToken = account.refreshIamToken(iamToken);
+            if (newIamToken != null && !newIamToken.equals(iamToken)) {
+                resp = invokeApi(method, apiPath, inContentType, inBody, anonymous, newIamToken);
+            }
+        }
+        return resp;
+    }
+
+    private ApiResponse invokeApi(String method, String apiPath, String inContentType, RequestBody inBody,
+            boolean anonymous, String iamToken) throws IOException {
+        long start = System.nanoTime();
+        ApiResponse resp = null;
+        try {
+            resp = sendRequest(method, apiPath, inContentType, inBody, anonymous, iamToken);
+            return resp;
+        } finally {
+            statistics.recordRequest(System.nanoTime() - start,
+                    resp == null ? -1 : resp.status,
+                    resp == null ? 0 : resp.body.length);
+        }
+    }
+
+    private ApiResponse sendRequest(String method, String apiPath, String inContentType, RequestBody inBody,
+            boolean anonymous, String iamToken) throws IOException {
         String urlStr = account.getUrl() + "/" + apiPath;
         URL targetUrl = new URL(urlStr);
         HttpURLConnection conn = (HttpURLConnection)targetUrl.openConnection();
@@ -1571,7 +1886,7 @@ public class ServiceClientImpl extends ServiceClient {
             StringBuilder authHeader = new StringBuilder();
             if (account.isIamEnabled()) {
                 authHeader.append("Bearer ");
-                authHeader.append(account.getIamToken());
+                authHeader.append(iamToken);
             } else {
                 String uid = account.getUserId();
                 String secret = account.getPassword();
@@ -1585,7 +1900,7 @@ public class ServiceClientImpl extends ServiceClient {
                 case HMAC:
                     authHeader.append("GaaS-HMAC ");
                     authHeader.append(getHmacCredential(uid, secret, method,
-                            urlStr, dateHeader, inBody));
+                            urlStr, dateHeader, inBody == null ? null : inBody.toByteArray()));
                     break;
                 }
             }
@@ -1596,8 +1911,13 @@ public class ServiceClientImpl extends ServiceClient {
         if (inBody != null) {
             conn.setRequestProperty("Content-Type", inContentType);
             conn.setDoOutput(true);
+            if (inBody.getLength() < 0) {
+                // Stream the body instead of letting HttpURLConnection
+                // buffer it to calculate Content-Length
+                conn.setChunkedStreamingMode(0);
+            }
             try(OutputStream os=conn.getOutputStream()){
-                os.write(inBody);
+                inBody.writeTo(os);
             }
         }
 
@@ -1613,10 +1933,18 @@ public class ServiceClientImpl extends ServiceClient {
             bodyLen = 2048; // default length for initial byte array
         }
 
+        InputStream errorStream = conn.getErrorStream();
+        if (errorStream == null && resp.status >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            // No response body is available. For example, HttpURLConnection
+            // discards the body of 401 response to a streamed request.
+            resp.body = new byte[0];
+            return resp;
+        }
+
         ByteArrayOutputStream baos = new ByteArrayOutputStream(bodyLen);
-        try (InputStream is = conn.getErrorStream() == null
+        try (InputStream is = errorStream == null
                 ? conn.getInputStream()
-                : conn.getErrorStream()) {
+                : errorStream) {
             byte[] buf = new byte[2048];
             int bytes;
             while ((bytes = is.read(buf)) != -1) {
@@ -1793,21 +2121,30 @@ public class ServiceClientImpl extends ServiceClient {
             };
         }
     }
+    // Gson instances are immutable and thread-safe. Building a new one
+    // per request also discards its reflective type adapter cache, so
+    // a single instance is shared by all ServiceClientImpl instances.
+    private static final Gson GSON = buildGson();
+
     /**
-     * Creates a new Gson object
+     * Returns a Gson object
      * 
      * @param className A class name used for serialization/deserialization.
      *                  <p>Note: This implementation does not use this argument
      *                  for now. If we need different kinds of type adapters
      *                  depending on class, the implementation might be updated
-     *                  to set up appropriate set of type adapters.
+     *                  to return an appropriate Gson object for the class.
      * @return  A Gson object
      */
-    private static Gson createGson(String className) {
+    static Gson createGson(String className) {
+        return GSON;
+    }
+
+    private static Gson buildGson() {
         GsonBuilder builder = new GsonBuilder();
 
         // ISO8601 date format support
-        builder.setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX");
+        builder.registerTypeAdapter(Date.class, new Iso8601DateAdapter());
 
         builder.registerTypeAdapter(TranslationStatus.class,
                 new EnumWithFallbackAdapter<TranslationStatus>(TranslationStatus.UNKNOWN));
@@ -1820,7 +2157,68 @@ public class ServiceClientImpl extends ServiceClient {
                 new EnumMapInstanceCreator<TranslationStatus, Integer>(TranslationStatus.class));
 
         builder.registerTypeAdapterFactory(new NullMapValueTypeAdapterFactory());
-       
+
+        // Streaming readers for frequently used data objects
+        builder.registerTypeAdapterFactory(new RestTypeAdapterFactory());
+
+        builder.registerTypeAdapterFactory(
+                new MapResponseAdapterFactory<GetResourceStringsResponse, String>(
+                        GetResourceStringsResponse.class, "resourceStrings", String.class) {
+                    @Override
+                    GetResourceStringsResponse newResponse() {
+                        return new GetResourceStringsResponse();
+                    }
+
+                    @Override
+                    void setMap(GetResourceStringsResponse response, Map<String, String> map) {
+                        response.resourceStrings = map;
+                    }
+                });
+
+        builder.registerTypeAdapterFactory(
+                new MapResponseAdapterFactory<GetResourceEntriesResponse, RestResourceEntry>(
+                        GetResourceEntriesResponse.class, "resourceEntries", RestResourceEntry.class) {
+                    @Override
+                    GetResourceEntriesResponse newResponse() {
+                        return new GetResourceEntriesResponse();
+                    }
+
+                    @Override
+                    void setMap(GetResourceEntriesResponse response, Map<String, RestResourceEntry> map) {
+                        response.resourceEntries = map;
+                    }
+                });
+
+        builder.registerTypeAdapterFactory(
+                new MapResponseAdapterFactory<GetSegmentsResponse, RestSegmentData>(
+                        GetSegmentsResponse.class, "segments", RestSegmentData.class) {
+                    @Override
+                    GetSegmentsResponse newResponse() {
+                        return new GetSegmentsResponse();
+                    }
+
+                    @Override
+                    void setMap(GetSegmentsResponse response, Map<String, RestSegmentData> map) {
+                        response.segments = map;
+                    }
+                });
+
+        builder.registerTypeAdapterFactory(
+                new MapResponseAdapterFactory<GetTranslationRequestsResponse, RestTranslationRequest>(
+                        GetTranslationRequestsResponse.class, "translationRequests",
+                        RestTranslationRequest.class) {
+                    @Override
+                    GetTranslationRequestsResponse newResponse() {
+                        return new GetTranslationRequestsResponse();
+                    }
+
+                    @Override
+                    void setMap(GetTranslationRequestsResponse response,
+                            Map<String, RestTranslationRequest> map) {
+                        response.translationRequests = map;
+                    }
+                });
+
         return builder.create();
     }
 
@@ -1828,6 +2226,33 @@ public class ServiceClientImpl extends ServiceClient {
         return UrlEscapers.urlPathSegmentEscaper().escape(pathSegment);
     }
 
+    /**
+     * Returns a query string selecting fields in a response, such as
+     * <code>?fields=resourceEntries.value,resourceEntries.updatedAt</code>.
+     *
+     * @param property  The name of the response property holding the data.
+     * @param fields    The selected fields, or null.
+     * @param requiredFields    Field names always included in the projection.
+     * @return  The query string, or an empty string if no fields are selected.
+     */
+    private static <E extends Enum<E>> String fieldsQuery(String property, Set<E> fields,
+            String... requiredFields) {
+        if (fields == null || fields.isEmpty()) {
+            return "";
+        }
+        // A required field might also be selected by the caller
+        Set<String> names = new LinkedHashSet<>(Arrays.asList(requiredFields));
+        for (E field : fields) {
+            names.add(CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, field.name()));
+        }
+        StringBuilder buf = new StringBuilder("?fields=");
+        for (String name : names) {
+            buf.append(property).append('.').append(name).append(',');
+        }
+        buf.setLength(buf.length() - 1);
+        return buf.toString();
+    }
+
     //Document Translation Request APIs
     
     private static class GetDocumentTranslationRequestsResponse extends ServiceResponse {
@@ -1848,14 +2273,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, DocumentTranslationRequestData> resultTRs = new TreeMap<>();
-        for (Entry<String, RestDocumentTranslationRequest> trEntry : resp.translationRequests.entrySet()) {
-            String id = trEntry.getKey();
-            RestDocumentTranslationRequest tr = trEntry.getValue();
-            resultTRs.put(id, new DocumentTranslationRequestDataImpl(id, tr));
-        }
-
-        return resultTRs;
+        return toResultMap(resp.translationRequests, DOCUMENT_TRANSLATION_REQUEST_TRANSFORMER);
     
     }
     
@@ -1903,8 +2321,7 @@ public class ServiceClientImpl extends ServiceClient {
         }
 
         RestInputDocumentTranslationRequestData newRestTRData = new RestInputDocumentTranslationRequestData(newTranslationRequestData);
-        Gson gson = createGson(RestInputDocumentTranslationRequestData.class.getName());
-        String jsonBody = gson.toJson(newRestTRData, RestInputDocumentTranslationRequestData.class);
+        String jsonBody = toJson(newRestTRData, RestInputDocumentTranslationRequestData.class);
         DocumentTranslationRequestResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/doc-trs/new" + "?async=" + async,
@@ -1937,8 +2354,7 @@ public class ServiceClientImpl extends ServiceClient {
         }
 
         RestInputDocumentTranslationRequestData restChangeSet = new RestInputDocumentTranslationRequestData(changeSet);
-        Gson gson = createGson(RestInputDocumentTranslationRequestData.class.getName());
-        String jsonBody = gson.toJson(restChangeSet, RestInputDocumentTranslationRequestData.class);
+        String jsonBody = toJson(restChangeSet, RestInputDocumentTranslationRequestData.class);
         DocumentTranslationRequestResponse resp = invokeApiJson(
                 "POST",
                 escapePathSegment(account.getInstanceId()) + "/v2/doc-trs/"
@@ -2033,14 +2449,7 @@ public class ServiceClientImpl extends ServiceClient {
             throw new ServiceException(resp.getMessage());
         }
 
-        Map<String, SegmentData> resultEntries = new TreeMap<String, SegmentData>();
-        if (resp.segments != null && !resp.segments.isEmpty()) {
-            for (Entry<String, RestSegmentData> entry : resp.segments.entrySet()) {
-                resultEntries.put(entry.getKey(),
-                        new SegmentDataImpl(entry.getValue()));
-            }
-        }
-        return resultEntries;
+        return toResultMap(resp.segments, SEGMENT_TRANSFORMER);
     }
     
     private static class GetSegmentResponse extends ServiceResponse {
@@ -2169,7 +2578,8 @@ public class ServiceClientImpl extends ServiceClient {
 
         ApiResponse resp = null;
         try {
-            resp = invokeApi(method, apiPath, "application/xliff+xml", inputXliffBytes, false);
+            resp = invokeApi(method, apiPath, "application/xliff+xml",
+                    new ByteArrayRequestBody(inputXliffBytes), false);
         } catch (Exception e) {
             String errMsg = "Error while processing API request " + method + " " + apiPath;
             throw new ServiceException(errMsg, e);
@@ -15,6 +15,10 @@
  */
 package com.ibm.g11n.pipeline.client.impl;
 
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+
 /**
  * The base object used for receiving a REST API response. 
  * 
@@ -37,4 +41,27 @@ class ServiceResponse {
     String getMessage() {
         return message;
     }
+
+    /**
+     * Reads a field defined by this class from JSON. This method is
+     * used by streaming type adapters for subclasses.
+     *
+     * @param name  The field name.
+     * @param in    The JsonReader positioned at the field value.
+     * @return  true if the field was consumed, false if the field is not
+     *          defined by this class.
+     * @throws IOException if the field value could not be read.
+     */
+    boolean readField(String name, JsonReader in) throws IOException {
+        switch (name) {
+        case "status":
+            status = RestTypeAdapterFactory.nextStatus(in);
+            return true;
+        case "message":
+            message = RestTypeAdapterFactory.nextString(in);
+            return true;
+        default:
+            return false;
+        }
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+/**
+ * A bounded table used for sharing equal String instances decoded from
+ * service responses, such as language tags, <code>updatedBy</code> and
+ * <code>partnerStatus</code> values and metadata keys. These values have
+ * low cardinality, but are repeated in every resource entry.
+ * <p>
+ * The table is direct-mapped: each String hashes to a single slot, and
+ * a String replaces whatever the slot held before. So the table never
+ * grows, and a miss costs no more than keeping the decoded instance.
+ * Slots are read and written without locks. This is safe because
+ * String is immutable, and a lost update only misses a sharing
+ * opportunity.
+ * <p>
+ * The number of slots can be configured by the system property
+ * <code>GP_STRING_DEDUP_TABLE_SIZE</code> (rounded up to a power of two,
+ * default 1024). Setting it to 0 disables deduplication.
+ */
+final class StringDeduplicator {
+    static final String TABLE_SIZE_PROP_KEY = "GP_STRING_DEDUP_TABLE_SIZE";
+
+    private static final int DEFAULT_TABLE_SIZE = 1024;
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    // Longer strings are unlikely to be repeated values
+    private static final int MAX_STRING_LENGTH = 64;
+
+    private static final StringDeduplicator INSTANCE = new StringDeduplicator(initTableSize());
+
+    private final String[] table;
+    private final int mask;
+
+    StringDeduplicator(int tableSize) {
+        if (tableSize <= 0) {
+            table = null;
+            mask = 0;
+        } else {
+            int size = Integer.highestOneBit(Math.min(tableSize, MAX_TABLE_SIZE));
+            if (size < tableSize && size < MAX_TABLE_SIZE) {
+                size <<= 1;
+            }
+            table = new String[size];
+            mask = size - 1;
+        }
+    }
+
+    /**
+     * Returns a String equal to the input, shared with previously
+     * decoded values if available.
+     *
+     * @param s A String, or null.
+     * @return  A String equal to <code>s</code>.
+     */
+    static String dedup(String s) {
+        return INSTANCE.get(s);
+    }
+
+    String get(String s) {
+        if (table == null || s == null || s.length() > MAX_STRING_LENGTH) {
+            return s;
+        }
+        int h = s.hashCode();
+        int idx = (h ^ (h >>> 16)) & mask;
+        String cached = table[idx];
+        if (s.equals(cached)) {
+            return cached;
+        }
+        table[idx] = s;
+        return s;
+    }
+
+    int getTableSize() {
+        return table == null ? 0 : table.length;
+    }
+
+    private static int initTableSize() {
+        String size = System.getProperty(TABLE_SIZE_PROP_KEY);
+        if (size != null) {
+            try {
+                return Integer.parseInt(size.trim());
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        return DEFAULT_TABLE_SIZE;
+    }
+}
@@ -15,6 +15,15 @@
  */
 package com.ibm.g11n.pipeline.client.impl;
 
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextMap;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextSharedString;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextString;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringList;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringMap;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringSet;
+import static com.ibm.g11n.pipeline.client.impl.RestTypeAdapterFactory.nextStringSetMap;
+
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
@@ -25,6 +34,11 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.ibm.g11n.pipeline.client.IndustryDomain;
 import com.ibm.g11n.pipeline.client.NewTranslationRequestData;
 import com.ibm.g11n.pipeline.client.TranslationRequestData;
@@ -281,6 +295,101 @@ public class TranslationRequestDataImpl extends TranslationRequestData {
         public Date getMergedAt() {
             return mergedAt;
         }
+
+        /**
+         * Streaming JSON reader for RestTranslationRequest.
+         */
+        static final class JsonAdapter extends TypeAdapter<RestTranslationRequest> {
+            private final TypeAdapter<RestTranslationRequest> delegate;
+            private final TypeAdapter<Date> dateAdapter;
+            private final TypeAdapter<RestWordCountData> wordCountAdapter;
+
+            JsonAdapter(Gson gson, TypeAdapter<RestTranslationRequest> delegate) {
+                this.delegate = delegate;
+                this.dateAdapter = gson.getAdapter(Date.class);
+                this.wordCountAdapter = gson.getAdapter(RestWordCountData.class);
+            }
+
+            @Override
+            public void write(JsonWriter out, RestTranslationRequest value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public RestTranslationRequest read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                RestTranslationRequest tr = new RestTranslationRequest();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    switch (name) {
+                    case "partner":
+                        tr.partner = nextSharedString(in);
+                        break;
+                    case "name":
+                        tr.name = nextString(in);
+                        break;
+                    case "targetLanguagesByBundle":
+                        tr.targetLanguagesByBundle = nextStringSetMap(in);
+                        break;
+                    case "organization":
+                        tr.organization = nextSharedString(in);
+                        break;
+                    case "emails":
+                        tr.emails = nextStringList(in);
+                        break;
+                    case "phones":
+                        tr.phones = nextStringList(in);
+                        break;
+                    case "domains":
+                        tr.domains = nextStringSet(in);
+                        break;
+                    case "notes":
+                        tr.notes = nextStringList(in);
+                        break;
+                    case "metadata":
+                        tr.metadata = nextStringMap(in);
+                        break;
+                    case "partnerParameters":
+                        tr.partnerParameters = nextStringMap(in);
+                        break;
+                    case "status":
+                        tr.status = nextSharedString(in);
+                        break;
+                    case "wordCountsByBundle":
+                        tr.wordCountsByBundle = nextMap(in, wordCountAdapter);
+                        break;
+                    case "estimatedCompletion":
+                        tr.estimatedCompletion = dateAdapter.read(in);
+                        break;
+                    case "createdAt":
+                        tr.createdAt = dateAdapter.read(in);
+                        break;
+                    case "startedAt":
+                        tr.startedAt = dateAdapter.read(in);
+                        break;
+                    case "submittedAt":
+                        tr.submittedAt = dateAdapter.read(in);
+                        break;
+                    case "translatedAt":
+                        tr.translatedAt = dateAdapter.read(in);
+                        break;
+                    case "mergedAt":
+                        tr.mergedAt = dateAdapter.read(in);
+                        break;
+                    default:
+                        if (!tr.readField(name, in, dateAdapter)) {
+                            in.skipValue();
+                        }
+                    }
+                }
+                in.endObject();
+                return tr;
+            }
+        }
     }
 
     /**
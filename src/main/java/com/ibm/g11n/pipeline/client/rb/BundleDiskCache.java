@@ -0,0 +1,197 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.g11n.pipeline.client.BundleSnapshotCodec;
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+
+/**
+ * <code>BundleDiskCache</code> persists resource strings loaded from
+ * Globalization Pipeline service to a local directory, so they can be
+ * used immediately after a process restart, or while the service is not
+ * reachable.
+ * <p>
+ * Each bundle and language is stored in a separate file
+ * <code>&lt;dir&gt;/&lt;instance ID&gt;/&lt;bundle ID&gt;/&lt;language tag&gt;.gpbs</code>.
+ * A file consists of the bundle's last update time (milliseconds since the
+ * epoch, or <code>Long.MIN_VALUE</code> if unknown), followed by resource
+ * strings encoded by {@link BundleSnapshotCodec}. Files are memory-mapped for
+ * reading, and replaced atomically when written.
+ * <p>
+ * All I/O errors are logged and ignored, because the cache is only an
+ * optimization.
+ */
+final class BundleDiskCache {
+    private static final Logger logger = Logger.getLogger(BundleDiskCache.class.getName());
+
+    private static final String FILE_EXT = ".gpbs";
+    private static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
+    private final File dir;
+
+    BundleDiskCache(File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Cached resource strings with the bundle's last update time.
+     */
+    static final class Entry {
+        final Map<String, String> data;
+        final Date bundleUpdatedAt;
+
+        Entry(Map<String, String> data, Date bundleUpdatedAt) {
+            this.data = data;
+            this.bundleUpdatedAt = bundleUpdatedAt;
+        }
+    }
+
+    /**
+     * Reads the cached resource strings.
+     *
+     * @param serviceAccount    The service account.
+     * @param bundleId          The bundle ID.
+     * @param locale            The locale.
+     * @return  The cached entry, or null if not available.
+     */
+    Entry read(ServiceAccount serviceAccount, String bundleId, Locale locale) {
+        File file = getFile(serviceAccount, bundleId, locale);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long time = buf.getLong();
+            Map<String, String> data = BundleSnapshotCodec.readResourceStrings(
+                    new ByteBufferInputStream(buf));
+            return new Entry(data, time == UNKNOWN_TIME ? null : new Date(time));
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.INFO, "Could not read the cached resource data in " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the resource strings to the cache.
+     *
+     * @param serviceAccount    The service account.
+     * @param bundleId          The bundle ID.
+     * @param locale            The locale.
+     * @param data              The resource strings.
+     * @param bundleUpdatedAt   The bundle's last update time, or null if unknown.
+     */
+    void write(ServiceAccount serviceAccount, String bundleId, Locale locale,
+            Map<String, String> data, Date bundleUpdatedAt) {
+        File file = getFile(serviceAccount, bundleId, locale);
+        File parent = file.getParentFile();
+        File tmpFile = null;
+        try {
+            if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+                throw new IOException("Could not create the directory " + parent);
+            }
+            tmpFile = File.createTempFile(file.getName(), ".tmp", parent);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                out.writeLong(bundleUpdatedAt == null ? UNKNOWN_TIME : bundleUpdatedAt.getTime());
+                BundleSnapshotCodec.writeResourceStrings(data, out, false);
+            }
+            try {
+                Files.move(tmpFile.toPath(), file.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpFile = null;
+        } catch (IOException e) {
+            logger.log(Level.INFO, "Could not write the resource data to " + file, e);
+        } finally {
+            if (tmpFile != null) {
+                tmpFile.delete();
+            }
+        }
+    }
+
+    File getFile(ServiceAccount serviceAccount, String bundleId, Locale locale) {
+        File bundleDir = new File(new File(dir, escape(serviceAccount.getInstanceId())),
+                escape(bundleId));
+        return new File(bundleDir, escape(locale.toLanguageTag()) + FILE_EXT);
+    }
+
+    private static String escape(String name) {
+        try {
+            // '*' is not escaped by URLEncoder, but not allowed in some file systems
+            return URLEncoder.encode(name, "UTF-8").replace("*", "%2A");
+        } catch (UnsupportedEncodingException e) {
+            // should never happen
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * InputStream reading bytes from a ByteBuffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        ByteBufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buf.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buf.remaining();
+        }
+    }
+}
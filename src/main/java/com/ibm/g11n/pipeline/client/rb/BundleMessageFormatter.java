@@ -0,0 +1,128 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * <code>BundleMessageFormatter</code> formats messages with patterns in
+ * resource bundles, compiling each pattern only once, instead of calling
+ * <code>MessageFormat.format(bundle.getString(key), args)</code>, which
+ * parses the pattern on every call.
+ * <p>
+ * For a {@link CloudResourceBundle}, compiled formats are kept with the
+ * bundle's current resource strings, and discarded when the bundle is
+ * refreshed. For other bundles, a compiled format is reused while the
+ * pattern returned by the bundle is unchanged. Cached formats do not prevent
+ * bundles from being garbage collected.
+ * <p>
+ * All methods in this class are thread safe.
+ */
+public final class BundleMessageFormatter {
+
+    private static final ConcurrentMap<ResourceBundle, ConcurrentMap<String, CompiledPattern>> CACHE =
+            new MapMaker().weakKeys().makeMap();
+
+    private BundleMessageFormatter() {
+    }
+
+    /**
+     * Formats the message with the pattern for the key in the bundle.
+     * The result is same as <code>new MessageFormat(bundle.getString(key),
+     * locale).format(args)</code>, where <code>locale</code> is the bundle's
+     * locale.
+     *
+     * @param bundle    The resource bundle.
+     * @param key       The resource key of the message pattern.
+     * @param args      The arguments to be formatted.
+     * @return The formatted message.
+     * @throws MissingResourceException if no pattern for the key is found.
+     * @throws IllegalArgumentException if the pattern is invalid, or an argument
+     *          cannot be formatted.
+     */
+    public static String format(ResourceBundle bundle, String key, Object... args) {
+        return getMessageFormat(bundle, key).format(args);
+    }
+
+    /**
+     * Returns a message format compiled from the pattern for the key in the
+     * bundle. The returned instance is owned by the caller, and may be modified.
+     *
+     * @param bundle    The resource bundle.
+     * @param key       The resource key of the message pattern.
+     * @return A message format.
+     * @throws MissingResourceException if no pattern for the key is found.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static MessageFormat getMessageFormat(ResourceBundle bundle, String key) {
+        if (bundle == null) {
+            throw new IllegalArgumentException("bundle must be specified.");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("key must be specified.");
+        }
+        // MessageFormat and its subformats are not thread safe, so each
+        // caller gets a copy of the shared compiled format.
+        return (MessageFormat) getSharedMessageFormat(bundle, key).clone();
+    }
+
+    private static MessageFormat getSharedMessageFormat(ResourceBundle bundle, String key) {
+        if (bundle instanceof CloudResourceBundle) {
+            MessageFormat fmt = ((CloudResourceBundle) bundle).getMessageFormat(key);
+            if (fmt != null) {
+                return fmt;
+            }
+            // The pattern is in a parent bundle
+        }
+
+        String pattern = bundle.getString(key);
+        ConcurrentMap<String, CompiledPattern> formats = CACHE.get(bundle);
+        if (formats == null) {
+            ConcurrentMap<String, CompiledPattern> newFormats = new ConcurrentHashMap<>();
+            formats = CACHE.putIfAbsent(bundle, newFormats);
+            if (formats == null) {
+                formats = newFormats;
+            }
+        }
+        CompiledPattern compiled = formats.get(key);
+        if (compiled == null || !compiled.pattern.equals(pattern)) {
+            Locale locale = bundle.getLocale();
+            if (locale == null) {
+                locale = Locale.getDefault(Locale.Category.FORMAT);
+            }
+            compiled = new CompiledPattern(pattern, new MessageFormat(pattern, locale));
+            formats.put(key, compiled);
+        }
+        return compiled.format;
+    }
+
+    private static final class CompiledPattern {
+        final String pattern;
+        final MessageFormat format;
+
+        CompiledPattern(String pattern, MessageFormat format) {
+            this.pattern = pattern;
+            this.format = format;
+        }
+    }
+}
@@ -15,13 +15,24 @@
  */
 package com.ibm.g11n.pipeline.client.rb;
 
+import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.ibm.g11n.pipeline.client.BundleField;
 import com.ibm.g11n.pipeline.client.ServiceAccount;
 import com.ibm.g11n.pipeline.client.ServiceClient;
 import com.ibm.g11n.pipeline.client.ServiceException;
@@ -36,23 +47,72 @@ public final class CloudResourceBundle extends ResourceBundle {
 
     private static final Logger logger = Logger.getLogger(CloudResourceBundle.class.getName());
 
+    // Immutable compact copy of the resource strings, replaced by refresh
     private volatile Map<String, String> data;
 
+    private final ServiceAccount serviceAccount;
+    // The shared client, referenced while this bundle is in use so that the
+    // default registry keeps it
+    private final ServiceClient client;
+    private final String bundleId;
+    private final Locale locale;
+    private volatile Date bundleUpdatedAt;
+    private final BundleDiskCache diskCache;
+    private final UpdatedAtCache updatedAtCache;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // Set by invalidate(), and cleared by the refresh fetching the data regardless
+    // of the last update time
+    private final AtomicBoolean invalidated = new AtomicBoolean();
+
+    // Message formats compiled from the current data, discarded when data is replaced
+    private volatile FormatCache formatCache;
+
     /**
      * Package local factory method creating a new CloundResourceBundle instance
      * for the specified service account, bundle ID and locale.
+     * <p>
+     * When a disk cache is specified and it has the resource data, the bundle is
+     * created from the cached data without accessing the service, and refreshed
+     * in background, unless the bundle is being reloaded because it was modified.
+     * Otherwise, the data loaded from the service is written to the disk cache.
      * 
      * @param serviceAccount    The service account for IBM Globalization Pipeline
      * @param bundleId          The bundle ID
      * @param locale            The locale
+     * @param diskCache         The disk cache, or null
+     * @param updatedAtCache    The cache of the bundle's last update time shared
+     *                          with bundles for other locales, or null
+     * @param reload            Whether the bundle is reloaded because the cached
+     *                          bundle was modified. The disk cache is not read
+     *                          when reloading, because it has the same stale data.
      * @return An instance of CloundResourceBundle.
      */
-    static CloudResourceBundle loadBundle(ServiceAccount serviceAccount, String bundleId, Locale locale) {
+    static CloudResourceBundle loadBundle(ServiceAccount serviceAccount, String bundleId, Locale locale,
+            BundleDiskCache diskCache, UpdatedAtCache updatedAtCache, boolean reload) {
+        if (diskCache != null && !reload) {
+            BundleDiskCache.Entry cached = diskCache.read(serviceAccount, bundleId, locale);
+            if (cached != null) {
+                CloudResourceBundle crb = new CloudResourceBundle(cached.data, serviceAccount,
+                        bundleId, locale, cached.bundleUpdatedAt, diskCache, updatedAtCache);
+                crb.refreshAsync();
+                return crb;
+            }
+        }
+
         CloudResourceBundle crb = null;
-        ServiceClient client = ServiceClient.getInstance(serviceAccount);
+        ServiceClient client = ServiceClient.getSharedInstance(serviceAccount);
         try {
+            // The bundle's last update time is fetched before resource strings,
+            // so an update made in between is detected by the next check.
+            // The time is shared by bundles for all locales loaded together.
+            Date bundleUpdatedAt = getBundleUpdatedAtOrNull(client, bundleId, updatedAtCache);
             Map<String, String> resStrings = client.getResourceStrings(bundleId, locale.toLanguageTag(), false);
-            crb = new CloudResourceBundle(resStrings);
+            crb = new CloudResourceBundle(resStrings, serviceAccount, bundleId, locale,
+                    bundleUpdatedAt, diskCache, updatedAtCache);
+            if (diskCache != null) {
+                diskCache.write(serviceAccount, bundleId, locale, resStrings, bundleUpdatedAt);
+            }
         } catch (ServiceException e) {
             logger.info("Could not fetch resource data for " + locale
                     + " from the translation bundle " + bundleId + ": " + e.getMessage());
@@ -61,13 +121,257 @@ public final class CloudResourceBundle extends ResourceBundle {
     }
 
     /**
-     * Private constructor, only called from {@link #loadBundle(ServiceAccount, String, Locale)}.
+     * Private constructor, only called from
+     * {@link #loadBundle(ServiceAccount, String, Locale, BundleDiskCache, UpdatedAtCache, boolean)}.
      * This class does not have any public constructors.
      * 
      * @param data  The resource string key/value pairs
+     * @param serviceAccount    The service account used for loading the data
+     * @param bundleId          The bundle ID
+     * @param locale            The locale
+     * @param bundleUpdatedAt   The bundle's last update time when the data was loaded,
+     *                          or null if not available
+     * @param diskCache         The disk cache updated by refresh, or null
+     * @param updatedAtCache    The cache of the bundle's last update time, or null
      */
-    private CloudResourceBundle(Map<String, String> data) {
-        this.data = data;
+    private CloudResourceBundle(Map<String, String> data, ServiceAccount serviceAccount,
+            String bundleId, Locale locale, Date bundleUpdatedAt, BundleDiskCache diskCache,
+            UpdatedAtCache updatedAtCache) {
+        this.data = CompactStringMap.copyOf(data);
+        this.serviceAccount = serviceAccount;
+        this.client = ServiceClient.getSharedInstance(serviceAccount);
+        this.bundleId = bundleId;
+        this.locale = locale;
+        this.bundleUpdatedAt = bundleUpdatedAt;
+        this.diskCache = diskCache;
+        this.updatedAtCache = updatedAtCache;
+    }
+
+    /**
+     * Checks if the bundle in the Globalization Pipeline service instance
+     * was updated after this bundle was loaded. Only the bundle's last update
+     * time is fetched from the service for the check, and the fetched time is
+     * shared with bundles for other locales checked shortly after.
+     * 
+     * @return  <code>false</code> if the bundle's last update time is unchanged,
+     *          or could not be fetched because of a service error; otherwise
+     *          <code>true</code>.
+     */
+    boolean isModified() {
+        Date bundleUpdatedAt = this.bundleUpdatedAt;
+        if (bundleUpdatedAt == null) {
+            return true;
+        }
+        try {
+            Date current = getBundleUpdatedAt(client, bundleId, updatedAtCache);
+            return !bundleUpdatedAt.equals(current);
+        } catch (ServiceException e) {
+            // Keep the cached data, because reloading would likely fail, too
+            logger.info("Could not check the last update time of the translation bundle "
+                    + bundleId + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reloads the resource strings in this bundle if the bundle in the
+     * Globalization Pipeline service instance was updated, and replaces
+     * the data atomically. Threads looking up resources keep reading the
+     * current data while the new data is being fetched.
+     * <p>
+     * If another thread is already refreshing this bundle, this method
+     * returns immediately. If this bundle is invalidated while it is being
+     * refreshed, the refresh is run again, because the running refresh might
+     * have fetched the data before the update.
+     */
+    void refresh() {
+        do {
+            if (!refreshing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                refresh(invalidated.getAndSet(false));
+            } finally {
+                refreshing.set(false);
+            }
+        } while (invalidated.get());
+    }
+
+    private void refresh(boolean force) {
+        try {
+            Date current = getBundleUpdatedAtOrNull(client, bundleId, updatedAtCache);
+            if (!force && current != null && current.equals(bundleUpdatedAt)) {
+                return;
+            }
+            Map<String, String> resStrings = client.getResourceStrings(bundleId,
+                    locale.toLanguageTag(), false);
+            data = CompactStringMap.copyOf(resStrings);
+            bundleUpdatedAt = current;
+            if (diskCache != null) {
+                diskCache.write(serviceAccount, bundleId, locale, resStrings, current);
+            }
+        } catch (ServiceException e) {
+            logger.info("Could not refresh resource data for " + locale
+                    + " from the translation bundle " + bundleId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Discards the known last update time of this bundle, and refreshes
+     * this bundle in background. Unlike {@link #refreshAsync()}, the resource
+     * strings are fetched even if the bundle's last update time is unchanged.
+     */
+    void invalidate() {
+        bundleUpdatedAt = null;
+        invalidated.set(true);
+        refreshAsync();
+    }
+
+    /**
+     * Refreshes this bundle in background.
+     * 
+     * @see #refresh()
+     */
+    void refreshAsync() {
+        refreshAsync(null);
+    }
+
+    /**
+     * Refreshes this bundle in background, and runs the callback after
+     * the refresh.
+     * 
+     * @param callback  The callback, or null.
+     * @see #refresh()
+     */
+    void refreshAsync(final Runnable callback) {
+        RefreshExecutorHolder.EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    refresh();
+                } finally {
+                    if (callback != null) {
+                        callback.run();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Holder of the executor refreshing bundles in background,
+     * created when first used.
+     */
+    private static class RefreshExecutorHolder {
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2,
+                new ThreadFactoryBuilder()
+                    .setNameFormat("gp-bundle-refresh-%d")
+                    .setDaemon(true)
+                    .build());
+    }
+
+    private static Date getBundleUpdatedAt(ServiceClient client, String bundleId,
+            UpdatedAtCache updatedAtCache) throws ServiceException {
+        if (updatedAtCache != null) {
+            return updatedAtCache.get(client, bundleId);
+        }
+        return client.getBundleInfo(bundleId, EnumSet.of(BundleField.UPDATED_AT)).getUpdatedAt();
+    }
+
+    /**
+     * Returns the bundle's last update time, or null if it could not be fetched.
+     * For example, a reader might not be allowed to access the bundle's
+     * information. Resource strings are still loaded in this case, but every
+     * check treats the bundle as modified.
+     */
+    private static Date getBundleUpdatedAtOrNull(ServiceClient client, String bundleId,
+            UpdatedAtCache updatedAtCache) {
+        try {
+            return getBundleUpdatedAt(client, bundleId, updatedAtCache);
+        } catch (ServiceException e) {
+            logger.fine("Could not fetch the last update time of the translation bundle "
+                    + bundleId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the current resource strings in this bundle. The returned map
+     * is immutable, and replaced by a new instance when this bundle is
+     * refreshed.
+     * 
+     * @return The resource strings.
+     */
+    Map<String, String> getData() {
+        return data;
+    }
+
+    /**
+     * Returns the approximate number of bytes retained by the resource strings
+     * in this bundle.
+     * 
+     * @return The estimated size in bytes.
+     */
+    long estimatedSize() {
+        return ((CompactStringMap) data).estimatedSize();
+    }
+
+    /**
+     * Returns the message format compiled from the pattern for the key in
+     * this bundle's own data. The compiled format is cached until the data
+     * is replaced by {@link #refresh()}.
+     * <p>
+     * The returned instance is shared, and must not be modified or used
+     * by multiple threads concurrently.
+     * 
+     * @param key   The resource key.
+     * @return The message format, or null if this bundle's own data does not
+     *          have the key.
+     */
+    MessageFormat getMessageFormat(String key) {
+        Map<String, String> current = data;
+        FormatCache cache = formatCache;
+        if (cache == null || cache.data != current) {
+            cache = new FormatCache(current);
+            formatCache = cache;
+        }
+        MessageFormat fmt = cache.formats.get(key);
+        if (fmt == null) {
+            String pattern = current.get(key);
+            if (pattern == null) {
+                return null;
+            }
+            fmt = new MessageFormat(pattern, locale);
+            MessageFormat prev = cache.formats.putIfAbsent(key, fmt);
+            if (prev != null) {
+                fmt = prev;
+            }
+        }
+        return fmt;
+    }
+
+    /**
+     * Message formats compiled from a version of resource strings.
+     */
+    private static final class FormatCache {
+        final Map<String, String> data;
+        final ConcurrentMap<String, MessageFormat> formats = new ConcurrentHashMap<>();
+
+        FormatCache(Map<String, String> data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the locale of the resource data, also when
+     * this bundle was not created by
+     * {@link ResourceBundle#getBundle(String, Locale, ResourceBundle.Control)}.
+     */
+    @Override
+    public Locale getLocale() {
+        return locale;
     }
 
     /**
@@ -85,4 +389,16 @@ public final class CloudResourceBundle extends ResourceBundle {
     protected Object handleGetObject(String arg0) {
         return data.get(arg0);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the key set of the current data, instead of
+     * the key set cached by {@link ResourceBundle}, because the data may be
+     * replaced by {@link #refresh()}.
+     */
+    @Override
+    protected Set<String> handleKeySet() {
+        return data.keySet();
+    }
 }
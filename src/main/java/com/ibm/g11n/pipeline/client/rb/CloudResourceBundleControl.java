@@ -15,18 +15,40 @@
  */
 package com.ibm.g11n.pipeline.client.rb;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.ResourceBundle.Control;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.ibm.g11n.pipeline.client.BatchExecutor;
+import com.ibm.g11n.pipeline.client.BatchExecutor.BatchResult;
+import com.ibm.g11n.pipeline.client.BatchExecutor.Operation;
+import com.ibm.g11n.pipeline.client.BatchExecutor.Result;
+import com.ibm.g11n.pipeline.client.BundleData;
+import com.ibm.g11n.pipeline.client.BundleField;
 import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.ServiceException;
 
 /**
  * <code>CloudResourceBundleControl</code> is a concrete subclass of {@link Control}.
@@ -42,6 +64,7 @@ import com.ibm.g11n.pipeline.client.ServiceAccount;
 public final class CloudResourceBundleControl extends Control {
 
     private static final String FORMAT_GP_CLOUD_BUNDLE = "gp.cloud.bundle";
+    private static final String FORMAT_GP_OVERLAY_BUNDLE = "gp.overlay.bundle";
 
     /**
      * Enum for resource bundle lookup modes.
@@ -73,7 +96,18 @@ public final class CloudResourceBundleControl extends Control {
          * Look up a standard Java resource bundle in classpath.
          */
         LOCAL_ONLY(
-                Arrays.asList("java.class", "java.properties"));
+                Arrays.asList("java.class", "java.properties")),
+
+        /**
+         * Look up both a standard Java resource bundle in classpath and a bundle
+         * in a Globalization Pipeline service instance, and merge them into one
+         * bundle for each locale. Values in the Globalization Pipeline bundle
+         * override values in the local bundle, and keys missing in the
+         * Globalization Pipeline bundle are resolved by the local bundle for the
+         * same locale, before falling back to a parent locale.
+         */
+        REMOTE_OVERLAY(
+                Collections.singletonList(FORMAT_GP_OVERLAY_BUNDLE));
 
         private final List<String> formatList;
 
@@ -91,12 +125,37 @@ public final class CloudResourceBundleControl extends Control {
      */
     public static final long DEFAULT_CACHE_EXPIRATION = 60000L;
 
+    /**
+     * Default expiration time of cached lookup misses (60000 = 1 minute)
+     */
+    public static final long DEFAULT_NEGATIVE_CACHE_EXPIRATION = 60000L;
+
     private final ServiceAccount serviceAccount;
     private long ttl;
+    private double ttlJitter;
+    private boolean ttlStagger;
     private Pattern inclusionPattern;
     private Pattern exclusionPattern;
     private NameMapper nameMapper;
     private LookupMode mode;
+    private boolean refreshAhead;
+    private BundleDiskCache diskCache;
+    private NegativeCache negativeCache;
+    // Shared by the cloud bundles for all locales of a bundle
+    private UpdatedAtCache updatedAtCache;
+
+    // Cloud bundles created by this control, indexed by bundle ID and locale.
+    // Bundles discarded from the ResourceBundle cache are removed by GC.
+    private final ConcurrentMap<String, ConcurrentMap<Locale, CloudResourceBundle>> loadedBundles =
+            new ConcurrentHashMap<>();
+
+    private final InvalidationChannel.Listener invalidationListener =
+            new InvalidationChannel.Listener() {
+                @Override
+                public void onInvalidate(InvalidationEvent event) {
+                    invalidate(event);
+                }
+            };
 
     /**
      * The environment variable name for specifying resource bundle lookup mode.
@@ -122,6 +181,58 @@ public final class CloudResourceBundleControl extends Control {
      */
     public static final String GP_CACHE_EXPIRATION = "GP_CACHE_EXPIRATION";
 
+    /**
+     * The environment variable name for specifying the jitter of resource bundle cache
+     * expiration time, as a fraction of the expiration time between 0.0 and 1.0. When
+     * the value is greater than 0.0, the expiration time of each loaded cloud resource
+     * bundle is shortened by a random amount up to the fraction, so bundles loaded at
+     * the same time do not expire together. For example, with the cache expiration
+     * 60000 and the jitter 0.2, a bundle expires after 48000 to 60000 milliseconds.
+     * By default, no jitter is applied.
+     * @see #GP_CACHE_EXPIRATION_STAGGER
+     */
+    public static final String GP_CACHE_EXPIRATION_JITTER = "GP_CACHE_EXPIRATION_JITTER";
+
+    /**
+     * The environment variable name for enabling per-bundle staggering of resource
+     * bundle cache expiration time. When the value is <code>true</code>, the amount
+     * of {@link #GP_CACHE_EXPIRATION_JITTER jitter} is not random, but fixed for each
+     * pair of bundle base name and locale, so the bundles are spread evenly over the
+     * jitter range on every reload. By default, staggering is disabled.
+     */
+    public static final String GP_CACHE_EXPIRATION_STAGGER = "GP_CACHE_EXPIRATION_STAGGER";
+
+    /**
+     * The environment variable name for enabling refresh-ahead mode. When the value
+     * is <code>true</code>, an expired cloud resource bundle continues to be used,
+     * while its contents are refreshed in background. So threads looking up a bundle
+     * never wait for the reload. By default, refresh-ahead mode is disabled, and
+     * an expired bundle is reloaded by the thread looking up the bundle.
+     */
+    public static final String GP_CACHE_REFRESH_AHEAD = "GP_CACHE_REFRESH_AHEAD";
+
+    /**
+     * The environment variable name for specifying a local directory used for
+     * persisting cloud resource bundles. When this environment variable is set,
+     * resource strings loaded from the Globalization Pipeline service instance are
+     * written to the directory. After restart, a bundle in the directory is used
+     * immediately without waiting for the service, and revalidated in background.
+     * The cached bundles are also used while the service is not reachable.
+     * By default, no disk cache is used.
+     */
+    public static final String GP_CACHE_DIR = "GP_CACHE_DIR";
+
+    /**
+     * The environment variable name for specifying expiration time of cached lookup
+     * misses. The unit is millisecond. When a pair of bundle and locale could not be
+     * loaded from the Globalization Pipeline service instance, because it does not exist
+     * or because of a service error, the miss is remembered for the specified time, and
+     * further lookups for the pair do not access the service. The value 0 disables
+     * caching misses. When this environment variable is not set, the default expiration
+     * time (60000 - 1 minute) will be used.
+     */
+    public static final String GP_NEGATIVE_CACHE_EXPIRATION = "GP_NEGATIVE_CACHE_EXPIRATION";
+
     /**
      * The environment variable name for specifying bundle names included by this
      * cloud bundle implementation. The value is specified by a regular expression pattern.
@@ -161,6 +272,8 @@ public final class CloudResourceBundleControl extends Control {
     private static final Pattern DEFAULT_EXCLUSION =
             Pattern.compile(GP_RB_DEFAULT_EXCLUSION_PATTERN_STRING);
 
+    private static final HashFunction STAGGER_HASH = Hashing.murmur3_32();
+
 
     /**
      * Create an instance of <code>CloudResourceBundleControl</code> with a service account
@@ -329,6 +442,45 @@ public final class CloudResourceBundleControl extends Control {
     public static CloudResourceBundleControl getInstance(ServiceAccount serviceAccount,
             long cacheExpiration, String inclusionPattern, String exclusionPattern,
             NameMapper nameMapper, LookupMode mode) {
+        return getInstance(serviceAccount, cacheExpiration, inclusionPattern, exclusionPattern,
+                nameMapper, mode, initRefreshAhead());
+    }
+
+    /**
+     * Create an instance of <code>CloudResourceBundleControl</code> with the specified
+     * service account, cache expiration, bundle inclusion/exclusion name pattern, the custom
+     * bundle name mapper, bundle lookup mode and refresh-ahead mode.
+     * <p>
+     * The cache expiration time is in milliseconds
+     * and must be positive except for two special values.
+     *  <ul>
+     *      <li>{@link Control#TTL_DONT_CACHE} to disable resource bundle cache</li>
+     *      <li>{@link Control#TTL_NO_EXPIRATION_CONTROL} to disable resource bundle cache expiration</li>
+     *  </ul>
+     * <p>
+     *
+     * @param serviceAccount    The service account.
+     * @param cacheExpiration   The cache expiration, see the method description for details.
+     * @param inclusionPattern  The regular expression pattern string for specifying resource bundle
+     *                          names to be included, or null.
+     * @param exclusionPattern  The regular expression pattern string for specifying resource bundle
+     *                          package names to be excluded in addition to
+     *                          {@link #GP_RB_DEFAULT_EXCLUSION_PATTERN_STRING}, or null.
+     * @param nameMapper        The custom base name to bundle ID mapper, or null if no mapping is necessary.
+     * @param mode              The resource bundle lookup mode. If null, and the environment variable
+     *                          {@link #GP_LOOKUP_MODE} is not set, {@link LookupMode#REMOTE_THEN_LOCAL
+     *                          REMOTE_THEN_LOCAL} is used.
+     * @param refreshAhead      Whether an expired cloud resource bundle is refreshed
+     *                          in background, instead of being reloaded by the thread
+     *                          looking up the bundle. See {@link #GP_CACHE_REFRESH_AHEAD}.
+     * @return  An instance of CloudResourceBundleControl.
+     * @throws IllegalArgumentException when <code>serviceAccount</code> is null,
+     * or <code>cacheExpiration</code> value is illegal,
+     * or <code>inclusionPattern</code>/<code>exclusionPattern</code> syntax is invalid.
+     */
+    public static CloudResourceBundleControl getInstance(ServiceAccount serviceAccount,
+            long cacheExpiration, String inclusionPattern, String exclusionPattern,
+            NameMapper nameMapper, LookupMode mode, boolean refreshAhead) {
         if (serviceAccount == null) {
             throw new IllegalArgumentException("serviceAccount is null");
         }
@@ -359,7 +511,7 @@ public final class CloudResourceBundleControl extends Control {
         }
 
         return new CloudResourceBundleControl(serviceAccount, mode, cacheExpiration,
-                incPat, excPat, nameMapper);
+                incPat, excPat, nameMapper, refreshAhead);
     }
 
 
@@ -376,15 +528,267 @@ public final class CloudResourceBundleControl extends Control {
      *                          
      * @param nameMapper        The Java base name to IBM Globalization Pipeline bundle ID
      *                          mapper, or null if same names are used.
+     * @param refreshAhead      Whether expired bundles are refreshed in background.
      */
     CloudResourceBundleControl(ServiceAccount serviceAccount, LookupMode mode, long ttl,
-            Pattern inclusionPattern, Pattern exclusionPattern, NameMapper nameMapper) {
+            Pattern inclusionPattern, Pattern exclusionPattern, NameMapper nameMapper,
+            boolean refreshAhead) {
         this.serviceAccount = serviceAccount;
         this.mode = (mode == null) ? initMode() : mode;
         this.ttl = ttl;
         this.inclusionPattern = inclusionPattern;
         this.exclusionPattern = exclusionPattern;
         this.nameMapper = nameMapper;
+        this.refreshAhead = refreshAhead;
+        this.diskCache = initDiskCache();
+        this.negativeCache = initNegativeCache();
+        this.updatedAtCache = new UpdatedAtCache(ttl > 0
+                ? Math.min(ttl, UpdatedAtCache.DEFAULT_EXPIRATION)
+                : UpdatedAtCache.DEFAULT_EXPIRATION);
+        this.ttlJitter = initTtlJitter();
+        this.ttlStagger = initTtlStagger();
+    }
+
+    /**
+     * Sets the jitter of the cache expiration time.
+     * 
+     * @param jitter    The jitter as a fraction of the expiration time, between 0.0 and 1.0.
+     * @param stagger   Whether the amount of jitter is fixed per bundle and locale.
+     * @see #GP_CACHE_EXPIRATION_JITTER
+     * @see #GP_CACHE_EXPIRATION_STAGGER
+     */
+    void setTtlJitter(double jitter, boolean stagger) {
+        if (!(jitter >= 0.0 && jitter <= 1.0)) {
+            throw new IllegalArgumentException("Illegal jitter: " + jitter);
+        }
+        this.ttlJitter = jitter;
+        this.ttlStagger = stagger;
+    }
+
+    /**
+     * Sets the disk cache of resource strings.
+     * 
+     * @param diskCache The disk cache, or null to disable it.
+     * @see #GP_CACHE_DIR
+     */
+    void setDiskCache(BundleDiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * Sets the cache of bundles' last update times.
+     * 
+     * @param updatedAtCache    The cache, or null to fetch the last update time
+     *                          for each bundle and locale.
+     */
+    void setUpdatedAtCache(UpdatedAtCache updatedAtCache) {
+        this.updatedAtCache = updatedAtCache;
+    }
+
+    /**
+     * Discards cached lookup misses, so the next lookups for the bundles
+     * and locales access the Globalization Pipeline service instance again.
+     * 
+     * @see #GP_NEGATIVE_CACHE_EXPIRATION
+     */
+    public void clearNegativeCache() {
+        if (negativeCache != null) {
+            negativeCache.clear();
+        }
+    }
+
+    /**
+     * Subscribes this control to the invalidation channel. When an event is
+     * received from the channel, cloud resource bundles created by this control
+     * for the bundle and languages specified by the event are refreshed in
+     * background, and cached lookup misses for them are discarded. This allows
+     * a long cache expiration, while updates are still applied quickly.
+     * <p>
+     * Events for a service instance other than the one used by this control
+     * are ignored.
+     * 
+     * @param channel   The invalidation channel.
+     * @see #unsubscribe(InvalidationChannel)
+     */
+    public void subscribe(InvalidationChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must be specified.");
+        }
+        channel.subscribe(invalidationListener);
+    }
+
+    /**
+     * Unsubscribes this control from the invalidation channel.
+     * 
+     * @param channel   The invalidation channel.
+     * @see #subscribe(InvalidationChannel)
+     */
+    public void unsubscribe(InvalidationChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must be specified.");
+        }
+        channel.unsubscribe(invalidationListener);
+    }
+
+    private void invalidate(InvalidationEvent event) {
+        if (event.getInstanceId() != null
+                && !event.getInstanceId().equals(serviceAccount.getInstanceId())) {
+            return;
+        }
+        if (negativeCache != null) {
+            negativeCache.remove(event);
+        }
+        if (updatedAtCache != null) {
+            updatedAtCache.remove(event.getBundleId());
+        }
+        Map<Locale, CloudResourceBundle> bundles = loadedBundles.get(event.getBundleId());
+        if (bundles == null) {
+            return;
+        }
+        for (Entry<Locale, CloudResourceBundle> entry : bundles.entrySet()) {
+            if (event.appliesTo(entry.getKey())) {
+                entry.getValue().invalidate();
+            }
+        }
+    }
+
+    /**
+     * Loads the specified resource bundles in parallel, and stores them in the
+     * {@link ResourceBundle} cache, so later calls to
+     * {@link ResourceBundle#getBundle(String, Locale, ClassLoader, Control)}
+     * with this control do not wait for the service.
+     * <p>
+     * The results are in the iteration order of the input map and its locale
+     * collections. The value of a successful result is the loaded bundle. When
+     * no bundle for the exact locale is available, the result has a
+     * {@link MissingResourceException}, whose class name is
+     * <code>&lt;base name&gt;_&lt;locale&gt;</code>.
+     * 
+     * @param bundles           The locales to be loaded, indexed by resource bundle
+     *                          base name.
+     * @param loader            The class loader used for looking up the bundles. It must
+     *                          be the same class loader used by later lookups.
+     * @param maxConcurrency    The maximum number of bundles loaded concurrently.
+     * @return  The results of loading the bundles, with the total elapsed time.
+     * @throws InterruptedException when the current thread was interrupted while
+     *          waiting for completion.
+     */
+    public BatchResult<ResourceBundle> prefetch(Map<String, ? extends Collection<Locale>> bundles,
+            final ClassLoader loader, int maxConcurrency) throws InterruptedException {
+        if (bundles == null) {
+            throw new IllegalArgumentException("bundles must be specified.");
+        }
+        if (loader == null) {
+            throw new IllegalArgumentException("loader must be specified.");
+        }
+
+        List<Operation<ResourceBundle>> operations = new ArrayList<>();
+        for (Entry<String, ? extends Collection<Locale>> entry : bundles.entrySet()) {
+            addPrefetchOperations(operations, entry.getKey(), entry.getValue(), loader);
+        }
+
+        BatchExecutor executor = new BatchExecutor(ServiceClient.getSharedInstance(serviceAccount),
+                maxConcurrency);
+        return executor.execute(operations);
+    }
+
+    private void addPrefetchOperations(List<Operation<ResourceBundle>> operations,
+            final String baseName, Collection<Locale> locales, final ClassLoader loader) {
+        for (final Locale locale : locales) {
+            operations.add(new Operation<ResourceBundle>() {
+                @Override
+                public ResourceBundle execute(ServiceClient client) {
+                    ResourceBundle bundle = ResourceBundle.getBundle(baseName, locale, loader,
+                            CloudResourceBundleControl.this);
+                    if (!locale.equals(bundle.getLocale())) {
+                        // Only a fallback bundle is available
+                        throw new MissingResourceException("Can't find bundle for base name "
+                                + baseName + ", locale " + locale,
+                                baseName + "_" + locale, "");
+                    }
+                    return bundle;
+                }
+            });
+        }
+    }
+
+    /**
+     * Loads all bundles in the Globalization Pipeline service instance, in the
+     * source language and all target languages, in parallel. The bundles are loaded
+     * by {@link #prefetch(Map, ClassLoader, int)} with the current thread's
+     * context class loader.
+     * <p>
+     * When the languages of a bundle could not be fetched, the results include
+     * a single failed result for the bundle with a {@link ServiceException},
+     * and other bundles are still loaded.
+     * <p>
+     * Bundle IDs are used as resource bundle base names. Bundles excluded by
+     * inclusion/exclusion patterns are not loaded. When a {@link NameMapper} is
+     * used, only bundles whose ID is mapped from the same base name are loaded.
+     * 
+     * @param maxConcurrency    The maximum number of concurrent service requests.
+     * @return  The results of loading the bundles, with the elapsed time for
+     *          loading the bundles.
+     * @throws ServiceException when the list of bundles could not be fetched.
+     * @throws InterruptedException when the current thread was interrupted while
+     *          waiting for completion.
+     */
+    public BatchResult<ResourceBundle> prefetchAll(int maxConcurrency)
+            throws ServiceException, InterruptedException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            throw new IllegalArgumentException("loader must be specified.");
+        }
+        ServiceClient client = ServiceClient.getSharedInstance(serviceAccount);
+
+        List<Operation<BundleData>> infoOperations = new ArrayList<>();
+        final List<String> bundleIds = new ArrayList<>();
+        for (final String bundleId : client.getBundleIds()) {
+            if (isExcluded(bundleId)
+                    || (nameMapper != null && !bundleId.equals(nameMapper.getBundleID(bundleId)))) {
+                continue;
+            }
+            bundleIds.add(bundleId);
+            infoOperations.add(new Operation<BundleData>() {
+                @Override
+                public BundleData execute(ServiceClient client) throws ServiceException {
+                    return client.getBundleInfo(bundleId,
+                            EnumSet.of(BundleField.SOURCE_LANGUAGE, BundleField.TARGET_LANGUAGES));
+                }
+            });
+        }
+        BatchResult<BundleData> infoResults =
+                new BatchExecutor(client, maxConcurrency).execute(infoOperations);
+
+        List<Operation<ResourceBundle>> operations = new ArrayList<>();
+        for (int i = 0; i < bundleIds.size(); i++) {
+            Result<BundleData> infoResult = infoResults.getResults().get(i);
+            if (!infoResult.isSuccess()) {
+                final ServiceException failure = new ServiceException(
+                        "Could not fetch the languages of the bundle " + bundleIds.get(i),
+                        infoResult.getFailure());
+                operations.add(new Operation<ResourceBundle>() {
+                    @Override
+                    public ResourceBundle execute(ServiceClient client) throws ServiceException {
+                        throw failure;
+                    }
+                });
+                continue;
+            }
+            BundleData info = infoResult.getValue();
+            Collection<Locale> locales = new LinkedHashSet<>();
+            if (info.getSourceLanguage() != null) {
+                locales.add(Locale.forLanguageTag(info.getSourceLanguage()));
+            }
+            if (info.getTargetLanguages() != null) {
+                for (String language : info.getTargetLanguages()) {
+                    locales.add(Locale.forLanguageTag(language));
+                }
+            }
+            addPrefetchOperations(operations, bundleIds.get(i), locales, loader);
+        }
+
+        return new BatchExecutor(client, maxConcurrency).execute(operations);
     }
 
     @Override
@@ -394,29 +798,136 @@ public final class CloudResourceBundleControl extends Control {
 
     @Override
     public long getTimeToLive(String baseName, Locale locale) {
-        return ttl;
+        if (ttl <= 0 || ttlJitter == 0.0) {
+            return ttl;
+        }
+        double fraction = ttlStagger
+                ? staggerFraction(baseName, locale)
+                : ThreadLocalRandom.current().nextDouble();
+        return ttl - (long) (ttl * ttlJitter * fraction);
+    }
+
+    /**
+     * Returns a fraction between 0.0 (inclusive) and 1.0 (exclusive) fixed for
+     * the bundle base name and locale, uniformly distributed across bundles.
+     */
+    private static double staggerFraction(String baseName, Locale locale) {
+        int hash = STAGGER_HASH.newHasher()
+                .putString(baseName, StandardCharsets.UTF_8)
+                .putString(locale.toLanguageTag(), StandardCharsets.UTF_8)
+                .hash().asInt();
+        return (hash & 0x7FFFFFFFL) / (double) (1L << 31);
     }
 
     @Override
     public boolean needsReload(String baseName, Locale locale, String format, ClassLoader loader,
         ResourceBundle bundle, long loadTime) {
-        // We may implement light weight 'last update' check.
-        // For now, always returns true, that means, whenever cached
-        // bundle is expired, reload the contents from the Globalization
-        // Pipeline service instance.
-        return true;
+        if (bundle instanceof OverlayResourceBundle) {
+            // Local resources are not reloaded
+            CloudResourceBundle remote = ((OverlayResourceBundle) bundle).getRemote();
+            if (remote == null) {
+                // The cloud bundle was not available when the overlay was
+                // created. Reload it unless the miss is still cached.
+                String bundleId = toBundleId(baseName, locale);
+                return bundleId != null
+                        && (negativeCache == null || !negativeCache.contains(bundleId, locale));
+            }
+            bundle = remote;
+        }
+        if (bundle instanceof CloudResourceBundle) {
+            final CloudResourceBundle cloudBundle = (CloudResourceBundle) bundle;
+            if (refreshAhead) {
+                // Keep the cached bundle, and refresh its contents in background.
+                cloudBundle.refreshAsync();
+                return false;
+            }
+            // Reload the contents from the Globalization Pipeline service
+            // instance only when the bundle was updated since it was loaded.
+            return cloudBundle.isModified();
+        }
+        return super.needsReload(baseName, locale, format, loader, bundle, loadTime);
     }
 
     @Override
     public ResourceBundle newBundle(String baseName, Locale locale, String format, ClassLoader loader, boolean reload)
         throws IllegalAccessException, InstantiationException, IOException {
 
+        if (format.equals(FORMAT_GP_OVERLAY_BUNDLE)) {
+            return newOverlayBundle(baseName, locale, loader, reload);
+        }
+
         if (!format.equals(FORMAT_GP_CLOUD_BUNDLE)) {
             // When requested resource format is not GP cloud bundle,
             // just delegate the request to the Java's default implementation.
             return super.newBundle(baseName, locale, format, loader, reload);
         }
 
+        return loadCloudBundle(baseName, locale, reload);
+    }
+
+    /**
+     * Creates a bundle merging the local bundle and the cloud bundle
+     * for the locale.
+     */
+    private ResourceBundle newOverlayBundle(String baseName, Locale locale, ClassLoader loader,
+            boolean reload) throws IllegalAccessException, InstantiationException, IOException {
+        ResourceBundle local = super.newBundle(baseName, locale, "java.class", loader, reload);
+        if (local == null) {
+            local = super.newBundle(baseName, locale, "java.properties", loader, reload);
+        }
+        CloudResourceBundle remote = loadCloudBundle(baseName, locale, reload);
+        if (local == null && remote == null) {
+            return null;
+        }
+        return new OverlayResourceBundle(local, remote, locale);
+    }
+
+    /**
+     * Loads the cloud bundle for the locale. When <code>reload</code> is true,
+     * the cached bundle was modified, and the data is always loaded from the
+     * service instead of the disk cache.
+     *
+     * @return The cloud bundle, or null if not available.
+     */
+    private CloudResourceBundle loadCloudBundle(String baseName, Locale locale, boolean reload) {
+        String bundleId = toBundleId(baseName, locale);
+        if (bundleId == null) {
+            return null;
+        }
+
+        if (negativeCache != null && negativeCache.contains(bundleId, locale)) {
+            return null;
+        }
+
+        // loadBundle returns null if locale is not available
+        CloudResourceBundle bundle = CloudResourceBundle.loadBundle(serviceAccount, bundleId,
+                locale, diskCache, updatedAtCache, reload);
+        if (bundle == null) {
+            if (negativeCache != null) {
+                negativeCache.put(bundleId, locale);
+            }
+        } else {
+            ConcurrentMap<Locale, CloudResourceBundle> bundles = loadedBundles.get(bundleId);
+            if (bundles == null) {
+                ConcurrentMap<Locale, CloudResourceBundle> newBundles =
+                        new MapMaker().weakValues().makeMap();
+                bundles = loadedBundles.putIfAbsent(bundleId, newBundles);
+                if (bundles == null) {
+                    bundles = newBundles;
+                }
+            }
+            bundles.put(locale, bundle);
+        }
+        return bundle;
+    }
+
+    /**
+     * Returns the Globalization Pipeline bundle ID for the base name.
+     *
+     * @return The bundle ID, or null if the cloud bundle is not looked up
+     * for the base name and locale.
+     */
+    private String toBundleId(String baseName, Locale locale) {
         if (isExcluded(baseName)) {
             return null;
         }
@@ -428,13 +939,7 @@ public final class CloudResourceBundleControl extends Control {
         }
 
         // Map the input baseName to GP's bundleId if NameMapper is available
-        String bundleId = nameMapper != null ? nameMapper.getBundleID(baseName) : baseName;
-        if (bundleId == null) {
-            return null;
-        }
-
-        // loadBundle returns null if locale is not available
-        return CloudResourceBundle.loadBundle(serviceAccount, bundleId, locale);
+        return nameMapper != null ? nameMapper.getBundleID(baseName) : baseName;
     }
 
     private boolean isExcluded(String baseName) {
@@ -473,6 +978,55 @@ public final class CloudResourceBundleControl extends Control {
         return DEFAULT_CACHE_EXPIRATION;
     }
 
+    private static BundleDiskCache initDiskCache() {
+        String envCacheDir = System.getenv(GP_CACHE_DIR);
+        if (envCacheDir == null || envCacheDir.trim().isEmpty()) {
+            return null;
+        }
+        return new BundleDiskCache(new File(envCacheDir.trim()));
+    }
+
+    private static NegativeCache initNegativeCache() {
+        long negativeCacheExp = DEFAULT_NEGATIVE_CACHE_EXPIRATION;
+        String envNegativeCacheExp = System.getenv(GP_NEGATIVE_CACHE_EXPIRATION);
+        if (envNegativeCacheExp != null) {
+            try {
+                long val = Long.parseLong(envNegativeCacheExp.trim());
+                if (val >= 0) {
+                    negativeCacheExp = val;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through
+            }
+        }
+        return negativeCacheExp > 0 ? new NegativeCache(negativeCacheExp) : null;
+    }
+
+    private static double initTtlJitter() {
+        String envJitter = System.getenv(GP_CACHE_EXPIRATION_JITTER);
+        if (envJitter != null) {
+            try {
+                double jitter = Double.parseDouble(envJitter.trim());
+                if (jitter >= 0.0 && jitter <= 1.0) {
+                    return jitter;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through
+            }
+        }
+        return 0.0;
+    }
+
+    private static boolean initTtlStagger() {
+        String envStagger = System.getenv(GP_CACHE_EXPIRATION_STAGGER);
+        return envStagger != null && Boolean.parseBoolean(envStagger.trim());
+    }
+
+    private static boolean initRefreshAhead() {
+        String envRefreshAhead = System.getenv(GP_CACHE_REFRESH_AHEAD);
+        return envRefreshAhead != null && Boolean.parseBoolean(envRefreshAhead.trim());
+    }
+
     private static LookupMode initMode() {
         Map<String, String> env = System.getenv();
         String envMode = env.get(GP_LOOKUP_MODE);
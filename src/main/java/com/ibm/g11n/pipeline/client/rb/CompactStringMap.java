@@ -0,0 +1,291 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * An immutable map of resource strings with small memory footprint, used
+ * for holding the contents of {@link CloudResourceBundle}.
+ * <p>
+ * Compared with <code>HashMap</code>, this implementation does not allocate
+ * an entry object per key, and
+ * <ul>
+ *  <li>Keys are interned, so equal keys in bundles for different locales
+ *      share the same String instance.</li>
+ *  <li>Keys are indexed by an open-addressing hash table of <code>int</code>.</li>
+ *  <li>Values longer than 32 characters are packed
+ *      into a single byte array, as Latin-1 if possible, otherwise as UTF-8.</li>
+ * </ul>
+ * The trade-off is that {@link #get(Object)} decodes and allocates a new
+ * String for each call for a long value. Short values, such as labels,
+ * are typically looked up on hot paths and are kept as String instances,
+ * because packing them saves little memory.
+ */
+final class CompactStringMap extends AbstractMap<String, String> {
+
+    private static final Interner<String> KEY_INTERNER = Interners.newWeakInterner();
+
+    // Maximum length of values kept as String instances
+    static final int SHORT_VALUE_LENGTH = 32;
+
+    // Keys in the insertion order
+    private final String[] keys;
+    // Short values, null for a packed or null value
+    private final String[] shortValues;
+    // Value of keys[i] is in bytes[offsets[i]] - bytes[offsets[i + 1] - 1]
+    private final int[] offsets;
+    private final byte[] bytes;
+    // Values encoded in UTF-8, instead of Latin-1
+    private final BitSet utf8Values;
+    private final BitSet nullValues;
+    // Open-addressing hash table storing index + 1 of keys, 0 for empty slot
+    private final int[] table;
+
+    private CompactStringMap(String[] keys, String[] shortValues, int[] offsets,
+            byte[] bytes, BitSet utf8Values, BitSet nullValues, int[] table) {
+        this.keys = keys;
+        this.shortValues = shortValues;
+        this.offsets = offsets;
+        this.bytes = bytes;
+        this.utf8Values = utf8Values;
+        this.nullValues = nullValues;
+        this.table = table;
+    }
+
+    /**
+     * Creates an immutable compact copy of the map.
+     *
+     * @param map   The map to be copied.
+     * @return  A compact map having the same entries in the same iteration order.
+     */
+    static CompactStringMap copyOf(Map<String, String> map) {
+        if (map instanceof CompactStringMap) {
+            return (CompactStringMap) map;
+        }
+
+        int size = map.size();
+        String[] keys = new String[size];
+        String[] shortValues = new String[size];
+        int[] offsets = new int[size + 1];
+        BitSet utf8Values = new BitSet();
+        BitSet nullValues = new BitSet();
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+
+        int idx = 0;
+        for (Entry<String, String> entry : map.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new IllegalArgumentException("null key is not supported");
+            }
+            keys[idx] = KEY_INTERNER.intern(entry.getKey());
+            String value = entry.getValue();
+            if (value == null) {
+                nullValues.set(idx);
+            } else if (value.length() <= SHORT_VALUE_LENGTH) {
+                shortValues[idx] = value;
+            } else if (isLatin1(value)) {
+                for (int i = 0; i < value.length(); i++) {
+                    buf.write(value.charAt(i));
+                }
+            } else {
+                utf8Values.set(idx);
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                buf.write(utf8, 0, utf8.length);
+            }
+            offsets[++idx] = buf.size();
+        }
+
+        // load factor <= 0.5
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        int mask = capacity - 1;
+        int[] table = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != 0) {
+                if (keys[table[slot] - 1].equals(keys[i])) {
+                    throw new IllegalArgumentException("Duplicate key: " + keys[i]);
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+
+        return new CompactStringMap(keys, shortValues, offsets, buf.toByteArray(), utf8Values, nullValues, table);
+    }
+
+    private static boolean isLatin1(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private String valueAt(int idx) {
+        String value = shortValues[idx];
+        if (value != null || nullValues.get(idx)) {
+            return value;
+        }
+        int start = offsets[idx];
+        int len = offsets[idx + 1] - start;
+        if (utf8Values.get(idx)) {
+            return new String(bytes, start, len, StandardCharsets.UTF_8);
+        }
+        return new String(bytes, start, len, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the approximate number of bytes retained by this map. Key
+     * strings are counted even though they may be shared with other maps.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimatedSize() {
+        long size = 64L + bytes.length + 4L * (offsets.length + table.length)
+                + (utf8Values.size() + nullValues.size()) / 8;
+        for (int i = 0; i < keys.length; i++) {
+            // reference, String object and its array, assuming 2 bytes per char
+            size += 8L + 40L + 2L * keys[i].length();
+            size += 8L;
+            if (shortValues[i] != null) {
+                size += 40L + 2L * shortValues[i].length();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        int idx = indexOf(key);
+        return idx < 0 ? null : valueAt(idx);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new IndexIterator<String>() {
+                    @Override
+                    String get(int idx) {
+                        return keys[idx];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new IndexIterator<Entry<String, String>>() {
+                    @Override
+                    Entry<String, String> get(int idx) {
+                        return new SimpleImmutableEntry<String, String>(keys[idx], valueAt(idx));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    /**
+     * Read-only iterator over the indexes of entries.
+     */
+    private abstract class IndexIterator<E> implements Iterator<E> {
+        private int next = 0;
+
+        abstract E get(int idx);
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public E next() {
+            if (next >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            return get(next++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
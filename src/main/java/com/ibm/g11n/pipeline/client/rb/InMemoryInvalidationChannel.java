@@ -0,0 +1,76 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <code>InMemoryInvalidationChannel</code> is an {@link InvalidationChannel}
+ * delivering events published in the same JVM synchronously to the listeners.
+ * It can be used by an application receiving update notifications through its
+ * own messaging infrastructure.
+ */
+public class InMemoryInvalidationChannel implements InvalidationChannel {
+    private static final Logger logger = Logger.getLogger(InMemoryInvalidationChannel.class.getName());
+
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Listener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener must be specified.");
+        }
+        listeners.addIfAbsent(listener);
+    }
+
+    @Override
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Delivers the event to all listeners. An exception thrown by a listener
+     * is logged, and does not prevent delivery to other listeners.
+     *
+     * @param event The invalidation event.
+     */
+    public void publish(InvalidationEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("event must be specified.");
+        }
+        for (Listener listener : listeners) {
+            try {
+                listener.onInvalidate(event);
+            } catch (RuntimeException e) {
+                logger.log(Level.INFO, "Invalidation listener failed to process " + event, e);
+            }
+        }
+    }
+
+    /**
+     * Delivers an event for the bundle in any service instance.
+     *
+     * @param bundleId  The bundle ID.
+     * @param languages The updated language tags, or none if all languages
+     *                  in the bundle are affected.
+     */
+    public void publish(String bundleId, String... languages) {
+        publish(new InvalidationEvent(null, bundleId, Arrays.asList(languages)));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+/**
+ * <code>InvalidationChannel</code> is the service provider interface delivering
+ * notifications about bundles updated in Globalization Pipeline service, so
+ * cached cloud resource bundles can be refreshed without waiting for the cache
+ * expiration.
+ * <p>
+ * {@link CloudResourceBundleControl#subscribe(InvalidationChannel)} registers
+ * a control to a channel. Implementations must allow listeners to be added and
+ * removed concurrently with event delivery.
+ *
+ * @see InMemoryInvalidationChannel
+ * @see WebhookInvalidationChannel
+ */
+public interface InvalidationChannel {
+
+    /**
+     * The callback interface receiving invalidation events.
+     */
+    interface Listener {
+        /**
+         * Called when a bundle was updated. This method may be called on
+         * a thread owned by the channel, and should return quickly.
+         *
+         * @param event The invalidation event.
+         */
+        void onInvalidate(InvalidationEvent event);
+    }
+
+    /**
+     * Adds a listener to this channel. Adding a listener already added has
+     * no effect.
+     *
+     * @param listener  The listener.
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * Removes a listener from this channel.
+     *
+     * @param listener  The listener.
+     */
+    void unsubscribe(Listener listener);
+}
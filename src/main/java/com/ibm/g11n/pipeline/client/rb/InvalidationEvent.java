@@ -0,0 +1,109 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * <code>InvalidationEvent</code> is a notification that resource strings in
+ * a bundle were updated in Globalization Pipeline service.
+ */
+public final class InvalidationEvent {
+    private final String instanceId;
+    private final String bundleId;
+    private final Set<String> languages;
+
+    /**
+     * Constructor.
+     *
+     * @param instanceId    The service instance ID, or null if the event applies to
+     *                      any service instance.
+     * @param bundleId      The bundle ID. Must not be null.
+     * @param languages     The updated language tags, or null or empty if all
+     *                      languages in the bundle are affected.
+     */
+    public InvalidationEvent(String instanceId, String bundleId, Collection<String> languages) {
+        if (bundleId == null) {
+            throw new IllegalArgumentException("bundleId must be specified.");
+        }
+        this.instanceId = instanceId;
+        this.bundleId = bundleId;
+        if (languages == null || languages.isEmpty()) {
+            this.languages = Collections.emptySet();
+        } else {
+            this.languages = Collections.unmodifiableSet(new LinkedHashSet<>(languages));
+        }
+    }
+
+    /**
+     * Returns the service instance ID.
+     *
+     * @return The service instance ID, or null if the event applies to any
+     *         service instance.
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Returns the bundle ID.
+     *
+     * @return The bundle ID.
+     */
+    public String getBundleId() {
+        return bundleId;
+    }
+
+    /**
+     * Returns the updated language tags.
+     *
+     * @return An unmodifiable set of the language tags, or an empty set if all
+     *         languages in the bundle are affected.
+     */
+    public Set<String> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Returns whether this event affects the locale.
+     *
+     * @param locale    The locale.
+     * @return true if this event applies to all languages, or the locale's
+     *         language tag is one of the updated languages.
+     */
+    public boolean appliesTo(Locale locale) {
+        if (languages.isEmpty()) {
+            return true;
+        }
+        String tag = locale.toLanguageTag();
+        for (String language : languages) {
+            if (language.equalsIgnoreCase(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidationEvent[instanceId=" + instanceId + ", bundleId=" + bundleId
+                + ", languages=" + languages + "]";
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle.Control;
+import java.util.TreeMap;
+
+import com.ibm.g11n.pipeline.client.BundleData;
+import com.ibm.g11n.pipeline.client.BundleField;
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.ServiceException;
+
+/**
+ * <code>ListResourceBundleGenerator</code> generates Java source files of
+ * {@link java.util.ListResourceBundle} subclasses from resource strings in
+ * Globalization Pipeline bundles. It is intended to run at build time, so
+ * strings stable at release time are packaged in the application, and
+ * {@link CloudResourceBundleControl.LookupMode#LOCAL_THEN_REMOTE LOCAL_THEN_REMOTE}
+ * mode finds them without accessing the service.
+ * <p>
+ * The generator can be run from the command line, or by a build tool, for
+ * example by <code>exec-maven-plugin</code> in <code>generate-sources</code>
+ * phase. The service account is configured by environment variables, as
+ * described in {@link ServiceAccount#getInstance()}.
+ * <pre>
+ * java com.ibm.g11n.pipeline.client.rb.ListResourceBundleGenerator \
+ *     -d &lt;output dir&gt; [-l &lt;language&gt;]... &lt;bundle ID&gt;[=&lt;base name&gt;]...
+ * </pre>
+ * When no languages are specified, the source and target languages of each
+ * bundle are generated. The base name is the bundle ID unless specified.
+ * Generated sources are reproducible; keys are sorted and no time stamp is
+ * included.
+ */
+public final class ListResourceBundleGenerator {
+
+    private static final Control CONTROL = Control.getControl(Control.FORMAT_DEFAULT);
+
+    // Entries per generated method, keeping methods well below the JVM's 64KB limit
+    private static final int ENTRIES_PER_METHOD = 256;
+
+    // Maximum string literal length, keeping constants below the class file's
+    // 65535 byte limit even when all characters take 3 bytes
+    private static final int MAX_LITERAL_LENGTH = 16384;
+
+    private final ServiceClient client;
+
+    /**
+     * Constructor.
+     *
+     * @param client    The service client used for fetching resource strings.
+     */
+    public ListResourceBundleGenerator(ServiceClient client) {
+        if (client == null) {
+            throw new IllegalArgumentException("client must be specified.");
+        }
+        this.client = client;
+    }
+
+    /**
+     * Generates source files for the bundle.
+     *
+     * @param bundleId  The bundle ID.
+     * @param baseName  The fully qualified base name of the generated classes, or null
+     *                  to use the bundle ID.
+     * @param languages The language tags to be generated, or null or empty to generate
+     *                  the bundle's source and target languages.
+     * @param outDir    The root directory of generated source files.
+     * @return The generated source files.
+     * @throws ServiceException when resource strings could not be fetched.
+     * @throws IOException when a source file could not be written.
+     */
+    public List<File> generate(String bundleId, String baseName, Collection<String> languages,
+            File outDir) throws ServiceException, IOException {
+        if (bundleId == null) {
+            throw new IllegalArgumentException("bundleId must be specified.");
+        }
+        if (outDir == null) {
+            throw new IllegalArgumentException("outDir must be specified.");
+        }
+        if (baseName == null) {
+            baseName = bundleId;
+        }
+        if (languages == null || languages.isEmpty()) {
+            BundleData info = client.getBundleInfo(bundleId,
+                    EnumSet.of(BundleField.SOURCE_LANGUAGE, BundleField.TARGET_LANGUAGES));
+            languages = new ArrayList<>();
+            languages.add(info.getSourceLanguage());
+            if (info.getTargetLanguages() != null) {
+                languages.addAll(info.getTargetLanguages());
+            }
+        }
+
+        List<File> files = new ArrayList<>(languages.size());
+        for (String language : languages) {
+            Locale locale = Locale.forLanguageTag(language);
+            if (locale.getLanguage().isEmpty()) {
+                throw new IllegalArgumentException("Unsupported language: " + language);
+            }
+            String className = CONTROL.toBundleName(baseName, locale);
+            Map<String, String> strings = client.getResourceStrings(bundleId, language, false);
+
+            File file = new File(outDir, className.replace('.', File.separatorChar) + ".java");
+            File dir = file.getParentFile();
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException("Could not create the directory " + dir);
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                    StandardCharsets.UTF_8)) {
+                writeSource(className, "bundle " + bundleId + ", language " + language,
+                        strings, writer);
+            }
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Writes Java source code of a <code>ListResourceBundle</code> subclass.
+     * The generated source only contains ASCII characters.
+     *
+     * @param className The fully qualified class name.
+     * @param origin    The description of the resource strings, written in
+     *                  the class comment.
+     * @param strings   The resource strings.
+     * @param out       The writer.
+     * @throws IOException when the source could not be written.
+     */
+    static void writeSource(String className, String origin, Map<String, String> strings,
+            Appendable out) throws IOException {
+        int idx = className.lastIndexOf('.');
+        String packageName = idx < 0 ? null : className.substring(0, idx);
+        String simpleName = className.substring(idx + 1);
+        for (String name : className.split("\\.", -1)) {
+            if (!isJavaIdentifier(name)) {
+                throw new IllegalArgumentException("Illegal class name: " + className);
+            }
+        }
+
+        Map<String, String> sorted = new TreeMap<>(strings);
+        int methods = (sorted.size() + ENTRIES_PER_METHOD - 1) / ENTRIES_PER_METHOD;
+
+        if (packageName != null) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n");
+        out.append(" * Resource strings generated from Globalization Pipeline ");
+        out.append(escapeComment(origin)).append(".\n");
+        out.append(" * Do not edit.\n");
+        out.append(" */\n");
+        out.append("public class ").append(simpleName)
+                .append(" extends java.util.ListResourceBundle {\n");
+        out.append("    private static final Object[][] CONTENTS = new Object[")
+                .append(Integer.toString(sorted.size())).append("][];\n\n");
+        out.append("    static {\n");
+        for (int i = 0; i < methods; i++) {
+            out.append("        init").append(Integer.toString(i)).append("();\n");
+        }
+        out.append("    }\n");
+
+        int entry = 0;
+        for (Map.Entry<String, String> e : sorted.entrySet()) {
+            if (entry % ENTRIES_PER_METHOD == 0) {
+                if (entry > 0) {
+                    out.append("    }\n");
+                }
+                out.append("\n    private static void init")
+                        .append(Integer.toString(entry / ENTRIES_PER_METHOD)).append("() {\n");
+            }
+            out.append("        CONTENTS[").append(Integer.toString(entry)).append("] = new Object[] {");
+            appendLiteral(e.getKey(), out);
+            out.append(", ");
+            appendLiteral(e.getValue() == null ? "" : e.getValue(), out);
+            out.append("};\n");
+            entry++;
+        }
+        if (entry > 0) {
+            out.append("    }\n");
+        }
+
+        out.append("\n    @Override\n");
+        out.append("    protected Object[][] getContents() {\n");
+        out.append("        return CONTENTS;\n");
+        out.append("    }\n");
+        out.append("}\n");
+    }
+
+    private static boolean isJavaIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String escapeComment(String s) {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c < 0x7F && c != '\\') {
+                buf.append(c);
+            } else {
+                buf.append('?');
+            }
+        }
+        return buf.toString().replace("*/", "*?");
+    }
+
+    /**
+     * Appends a Java expression of the string. A long string is split into
+     * literals concatenated at run time, because a string constant in a class
+     * file is limited to 65535 bytes.
+     */
+    private static void appendLiteral(String s, Appendable out) throws IOException {
+        if (s.length() <= MAX_LITERAL_LENGTH) {
+            appendQuoted(s, 0, s.length(), out);
+            return;
+        }
+        out.append("new StringBuilder(").append(Integer.toString(s.length())).append(")");
+        int start = 0;
+        while (start < s.length()) {
+            int end = Math.min(start + MAX_LITERAL_LENGTH, s.length());
+            if (end < s.length() && Character.isHighSurrogate(s.charAt(end - 1))) {
+                // Do not split a surrogate pair
+                end--;
+            }
+            out.append(".append(");
+            appendQuoted(s, start, end, out);
+            out.append(")");
+            start = end;
+        }
+        out.append(".toString()");
+    }
+
+    private static void appendQuoted(String s, int start, int end, Appendable out)
+            throws IOException {
+        out.append('"');
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    // Unicode escapes are translated before parsing, so control
+                    // characters use octal escapes
+                    out.append(String.format("\\%03o", (int) c));
+                } else if (c >= 0x7F) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static void usage() {
+        System.err.println("Usage: java " + ListResourceBundleGenerator.class.getName()
+                + " -d <output dir> [-l <language>]... <bundle ID>[=<base name>]...");
+    }
+
+    /**
+     * Command line entry point.
+     *
+     * @param args  The command line arguments.
+     */
+    public static void main(String[] args) {
+        File outDir = null;
+        List<String> languages = new ArrayList<>();
+        List<String> bundles = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-d") && i + 1 < args.length) {
+                outDir = new File(args[++i]);
+            } else if (args[i].equals("-l") && i + 1 < args.length) {
+                languages.add(args[++i]);
+            } else if (args[i].startsWith("-")) {
+                usage();
+                System.exit(2);
+            } else {
+                bundles.add(args[i]);
+            }
+        }
+        if (outDir == null || bundles.isEmpty()) {
+            usage();
+            System.exit(2);
+        }
+
+        ServiceAccount account = ServiceAccount.getInstance();
+        if (account == null) {
+            System.err.println("Globalization Pipeline service account is not configured.");
+            System.exit(1);
+        }
+        ListResourceBundleGenerator generator =
+                new ListResourceBundleGenerator(ServiceClient.getInstance(account));
+        try {
+            for (String bundle : bundles) {
+                int idx = bundle.indexOf('=');
+                String bundleId = idx < 0 ? bundle : bundle.substring(0, idx);
+                String baseName = idx < 0 ? null : bundle.substring(idx + 1);
+                for (File file : generator.generate(bundleId, baseName, languages, outDir)) {
+                    System.out.println("Generated " + file);
+                }
+            }
+        } catch (ServiceException | IOException | IllegalArgumentException e) {
+            System.err.println("Failed to generate resource bundles: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>NegativeCache</code> remembers pairs of bundle ID and locale, which
+ * could not be loaded from Globalization Pipeline service, either because
+ * they do not exist or because of a service error. While an entry is valid,
+ * {@link CloudResourceBundleControl} does not ask the service for the pair
+ * again.
+ */
+final class NegativeCache {
+    // Expired entries are purged when the cache grows beyond this size
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private final long ttlNanos;
+    private final ConcurrentMap<Key, Long> expirations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param ttl   The time to live of an entry in milliseconds. Must be positive.
+     */
+    NegativeCache(long ttl) {
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("Illegal ttl: " + ttl);
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+    }
+
+    /**
+     * Returns whether a valid entry exists for the bundle ID and locale.
+     *
+     * @param bundleId  The bundle ID.
+     * @param locale    The locale.
+     * @return true if the pair is known to be unavailable.
+     */
+    boolean contains(String bundleId, Locale locale) {
+        Key key = new Key(bundleId, locale);
+        Long expiration = expirations.get(key);
+        if (expiration == null) {
+            return false;
+        }
+        if (expiration - System.nanoTime() > 0) {
+            return true;
+        }
+        expirations.remove(key, expiration);
+        return false;
+    }
+
+    /**
+     * Adds an entry for the bundle ID and locale.
+     *
+     * @param bundleId  The bundle ID.
+     * @param locale    The locale.
+     */
+    void put(String bundleId, Locale locale) {
+        long now = System.nanoTime();
+        expirations.put(new Key(bundleId, locale), now + ttlNanos);
+        if (expirations.size() > PURGE_THRESHOLD) {
+            for (Iterator<Long> itr = expirations.values().iterator(); itr.hasNext();) {
+                if (itr.next() - now <= 0) {
+                    itr.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes entries for the bundle and languages specified by the event.
+     *
+     * @param event The invalidation event.
+     */
+    void remove(InvalidationEvent event) {
+        for (Iterator<Key> itr = expirations.keySet().iterator(); itr.hasNext();) {
+            Key key = itr.next();
+            if (key.bundleId.equals(event.getBundleId()) && event.appliesTo(key.locale)) {
+                itr.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        expirations.clear();
+    }
+
+    private static final class Key {
+        final String bundleId;
+        final Locale locale;
+
+        Key(String bundleId, Locale locale) {
+            this.bundleId = bundleId;
+            this.locale = locale;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * bundleId.hashCode() + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return bundleId.equals(other.bundleId) && locale.equals(other.locale);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * <code>OverlayResourceBundle</code> is a resource bundle merging resources
+ * in a local bundle and resource strings in a {@link CloudResourceBundle} for
+ * the same locale, used by
+ * {@link CloudResourceBundleControl.LookupMode#REMOTE_OVERLAY REMOTE_OVERLAY}
+ * mode. Remote values override local ones, and keys only available in the
+ * local bundle are still resolved by this bundle, instead of its parent.
+ * <p>
+ * The merged map is computed when the bundle is created, and again after
+ * the cloud bundle's data is replaced by a refresh.
+ */
+final class OverlayResourceBundle extends ResourceBundle {
+
+    // Immutable resources in the local bundle
+    private final Map<String, Object> localData;
+    private final CloudResourceBundle remote;
+    private final Locale locale;
+
+    private volatile Merged merged;
+
+    /**
+     * Constructor.
+     *
+     * @param local     The local bundle without parent, or null.
+     * @param remote    The cloud bundle, or null.
+     * @param locale    The locale of this bundle.
+     */
+    OverlayResourceBundle(ResourceBundle local, CloudResourceBundle remote, Locale locale) {
+        Map<String, Object> localData = new HashMap<>();
+        if (local != null) {
+            for (String key : local.keySet()) {
+                localData.put(key, local.getObject(key));
+            }
+        }
+        this.localData = Collections.unmodifiableMap(localData);
+        this.remote = remote;
+        this.locale = locale;
+        this.merged = merge();
+    }
+
+    /**
+     * Returns the cloud bundle merged into this bundle.
+     *
+     * @return The cloud bundle, or null.
+     */
+    CloudResourceBundle getRemote() {
+        return remote;
+    }
+
+    private Merged current() {
+        Merged m = merged;
+        if (remote != null && m.remoteData != remote.getData()) {
+            m = merge();
+            merged = m;
+        }
+        return m;
+    }
+
+    private Merged merge() {
+        if (remote == null) {
+            return new Merged(null, localData);
+        }
+        Map<String, String> remoteData = remote.getData();
+        Map<String, Object> values = new HashMap<>(localData);
+        values.putAll(remoteData);
+        return new Merged(remoteData, Collections.unmodifiableMap(values));
+    }
+
+    /**
+     * Merged resources with the cloud bundle's data used for them.
+     */
+    private static final class Merged {
+        final Map<String, String> remoteData;
+        final Map<String, Object> values;
+
+        Merged(Map<String, String> remoteData, Map<String, Object> values) {
+            this.remoteData = remoteData;
+            this.values = values;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Enumeration<String> getKeys() {
+        return Collections.enumeration(current().values.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object handleGetObject(String key) {
+        return current().values.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Set<String> handleKeySet() {
+        return current().values.keySet();
+    }
+}
@@ -0,0 +1,564 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.ResourceBundle.Control;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClientRegistry;
+
+/**
+ * <code>TenantBundleCache</code> is a bounded cache of cloud resource bundles
+ * for applications serving many tenants, each using its own Globalization
+ * Pipeline service instance.
+ * <p>
+ * Unlike {@link ResourceBundle#getBundle(String, Locale, Control)} with a
+ * {@link CloudResourceBundleControl} per tenant, bundles are not stored in
+ * the JDK's resource bundle cache. Instead, this cache limits the estimated
+ * memory used by the resource strings of all tenants, and of each tenant.
+ * When a limit is exceeded, the least recently used bundles are evicted,
+ * first from the tenant exceeding its quota, then from all tenants. A bundle
+ * larger than the tenant quota is kept until another bundle of the tenant
+ * is loaded.
+ * <p>
+ * Bundles older than the cache expiration are refreshed in background when
+ * accessed. The estimated size of a refreshed bundle is updated, and bundles
+ * are evicted again if a limit is exceeded. Lookup misses are cached for the
+ * same duration. Hit, miss, load and eviction counts are collected per tenant.
+ * <p>
+ * This class is thread safe.
+ */
+public final class TenantBundleCache {
+
+    private static final Control CANDIDATES_CONTROL =
+            Control.getNoFallbackControl(Control.FORMAT_DEFAULT);
+
+    // Estimated size of a cached lookup miss
+    private static final long MISS_ENTRY_SIZE = 64L;
+
+    private final long maxBytes;
+    private final long maxBytesPerTenant;
+    private final long ttl;
+    // Shared by the bundles for all locales of a tenant's bundle
+    private final UpdatedAtCache updatedAtCache;
+
+    private final ConcurrentMap<String, ServiceAccount> tenants = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Counters> counters = new HashMap<>();
+    private long totalBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param maxBytes          The maximum estimated size of all cached resource strings
+     *                          in bytes. Must be positive.
+     * @param maxBytesPerTenant The maximum estimated size of cached resource strings
+     *                          of a tenant in bytes. Must be positive.
+     * @param ttl               The cache expiration time in milliseconds. Must be positive.
+     */
+    public TenantBundleCache(long maxBytes, long maxBytesPerTenant, long ttl) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Illegal maxBytes: " + maxBytes);
+        }
+        if (maxBytesPerTenant <= 0) {
+            throw new IllegalArgumentException("Illegal maxBytesPerTenant: " + maxBytesPerTenant);
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("Illegal ttl: " + ttl);
+        }
+        this.maxBytes = maxBytes;
+        this.maxBytesPerTenant = maxBytesPerTenant;
+        this.ttl = ttl;
+        this.updatedAtCache = new UpdatedAtCache(Math.min(ttl, UpdatedAtCache.DEFAULT_EXPIRATION));
+    }
+
+    /**
+     * Registers a tenant, or replaces the service account of a registered tenant.
+     * When the service account is replaced, bundles cached for the tenant are
+     * discarded.
+     *
+     * @param tenantId  The tenant ID.
+     * @param account   The service account used for loading the tenant's bundles.
+     */
+    public void putTenant(String tenantId, ServiceAccount account) {
+        if (tenantId == null) {
+            throw new IllegalArgumentException("tenantId must be specified.");
+        }
+        if (account == null) {
+            throw new IllegalArgumentException("account must be specified.");
+        }
+        ServiceAccount prev = tenants.put(tenantId, account);
+        if (prev != null && prev != account) {
+            evictTenant(tenantId, false);
+        }
+    }
+
+    /**
+     * Unregisters a tenant, and discards the tenant's cached bundles and
+     * statistics. The tenant's service client is not released from the default
+     * {@link ServiceClientRegistry}, because other components may share it.
+     * The registry holds the client weakly, so it is removed by garbage
+     * collection once the discarded bundles are no longer in use.
+     *
+     * @param tenantId  The tenant ID.
+     * @return true if the tenant was registered.
+     */
+    public boolean removeTenant(String tenantId) {
+        ServiceAccount account = tenants.remove(tenantId);
+        if (account == null) {
+            return false;
+        }
+        evictTenant(tenantId, true);
+        return true;
+    }
+
+    /**
+     * Returns a resource bundle of the tenant for the bundle ID and locale.
+     * Like {@link ResourceBundle#getBundle(String, Locale)}, resources not
+     * found in the bundle for the locale are looked up in the bundles for
+     * its parent locales, such as "fr" for "fr-CA". The root locale is not
+     * supported by Globalization Pipeline service, and is never looked up.
+     *
+     * @param tenantId  The tenant ID.
+     * @param bundleId  The bundle ID.
+     * @param locale    The locale.
+     * @return The resource bundle. Its locale is the most specific locale found.
+     *         When no parent locale is found, the cached bundle itself is returned.
+     * @throws IllegalArgumentException if the tenant is not registered.
+     * @throws MissingResourceException if no bundle is found for the locale and
+     *         its parent locales.
+     */
+    public ResourceBundle getBundle(String tenantId, String bundleId, Locale locale) {
+        if (bundleId == null) {
+            throw new IllegalArgumentException("bundleId must be specified.");
+        }
+        if (locale == null) {
+            throw new IllegalArgumentException("locale must be specified.");
+        }
+        ServiceAccount account = tenantId == null ? null : tenants.get(tenantId);
+        if (account == null) {
+            throw new IllegalArgumentException("Unknown tenant: " + tenantId);
+        }
+
+        List<CloudResourceBundle> chain = new ArrayList<>();
+        for (Locale candidate : CANDIDATES_CONTROL.getCandidateLocales(bundleId, locale)) {
+            if (candidate.getLanguage().isEmpty()) {
+                continue;
+            }
+            CloudResourceBundle bundle = getCloudBundle(tenantId, account, bundleId, candidate);
+            if (bundle != null) {
+                chain.add(bundle);
+            }
+        }
+        if (chain.isEmpty()) {
+            throw new MissingResourceException("Can't find bundle for base name "
+                    + bundleId + ", locale " + locale, bundleId + "_" + locale, "");
+        }
+        return chain.size() == 1 ? chain.get(0) : new ChainedBundle(chain);
+    }
+
+    /**
+     * Returns the cached bundle for the exact locale, loading it if necessary.
+     */
+    private CloudResourceBundle getCloudBundle(String tenantId, ServiceAccount account,
+            String bundleId, Locale locale) {
+        final Key key = new Key(tenantId, bundleId, locale);
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            Counters c = getCounters(tenantId);
+            if (entry != null) {
+                if (now - entry.loadedAt < ttl) {
+                    c.hits++;
+                    if (entry.bundle != null) {
+                        updateSize(key, entry);
+                    }
+                    return entry.bundle;
+                }
+                if (entry.bundle != null) {
+                    // Keep the expired bundle, and refresh its contents in background
+                    c.hits++;
+                    entry.loadedAt = now;
+                    entry.bundle.refreshAsync(new Runnable() {
+                        @Override
+                        public void run() {
+                            synchronized (TenantBundleCache.this) {
+                                updateSize(key, entry);
+                            }
+                        }
+                    });
+                    return entry.bundle;
+                }
+            }
+            c.misses++;
+        }
+
+        // Loaded without holding the lock, so lookups for other bundles
+        // do not wait for the service.
+        CloudResourceBundle bundle = CloudResourceBundle.loadBundle(account, bundleId, locale, null,
+                updatedAtCache, false);
+        long size = bundle == null ? MISS_ENTRY_SIZE : bundle.estimatedSize();
+
+        synchronized (this) {
+            if (tenants.get(tenantId) != account) {
+                // The tenant was removed or replaced while loading
+                return bundle;
+            }
+            getCounters(tenantId).loads++;
+            add(key, new Entry(bundle, size, now));
+        }
+        return bundle;
+    }
+
+    // Must be called while holding the lock
+    private void add(Key key, Entry entry) {
+        Entry prev = entries.put(key, entry);
+        Counters c = getCounters(key.tenantId);
+        if (prev != null) {
+            prev.removed = true;
+            c.bytes -= prev.size;
+            c.entries--;
+            totalBytes -= prev.size;
+        }
+        c.bytes += entry.size;
+        c.entries++;
+        totalBytes += entry.size;
+        trim(key, c);
+    }
+
+    /**
+     * Updates the estimated size of the cached bundle if its data was replaced
+     * by a refresh, and evicts other bundles if a limit is exceeded.
+     * Must be called while holding the lock.
+     */
+    private void updateSize(Key key, Entry entry) {
+        Map<String, String> data = entry.bundle.getData();
+        if (entry.removed || entry.data == data) {
+            return;
+        }
+        long size = entry.bundle.estimatedSize();
+        Counters c = getCounters(key.tenantId);
+        c.bytes += size - entry.size;
+        totalBytes += size - entry.size;
+        entry.data = data;
+        entry.size = size;
+        trim(key, c);
+    }
+
+    /**
+     * Evicts least recently used entries other than the specified key while
+     * the tenant quota or the global budget is exceeded. Must be called while
+     * holding the lock.
+     */
+    private void trim(Key key, Counters c) {
+        // Tenant quota
+        if (c.bytes > maxBytesPerTenant) {
+            for (Iterator<Map.Entry<Key, Entry>> itr = entries.entrySet().iterator();
+                    itr.hasNext() && c.bytes > maxBytesPerTenant;) {
+                Map.Entry<Key, Entry> e = itr.next();
+                if (e.getKey().tenantId.equals(key.tenantId) && !e.getKey().equals(key)) {
+                    itr.remove();
+                    evicted(e.getKey(), e.getValue());
+                }
+            }
+        }
+
+        // Global budget
+        for (Iterator<Map.Entry<Key, Entry>> itr = entries.entrySet().iterator();
+                itr.hasNext() && totalBytes > maxBytes;) {
+            Map.Entry<Key, Entry> e = itr.next();
+            if (!e.getKey().equals(key)) {
+                itr.remove();
+                evicted(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    // Must be called while holding the lock
+    private void evicted(Key key, Entry entry) {
+        entry.removed = true;
+        Counters c = getCounters(key.tenantId);
+        c.bytes -= entry.size;
+        c.entries--;
+        c.evictions++;
+        totalBytes -= entry.size;
+    }
+
+    private synchronized void evictTenant(String tenantId, boolean removeCounters) {
+        for (Iterator<Map.Entry<Key, Entry>> itr = entries.entrySet().iterator(); itr.hasNext();) {
+            Map.Entry<Key, Entry> e = itr.next();
+            if (e.getKey().tenantId.equals(tenantId)) {
+                itr.remove();
+                evicted(e.getKey(), e.getValue());
+            }
+        }
+        if (removeCounters) {
+            counters.remove(tenantId);
+        }
+    }
+
+    // Must be called while holding the lock
+    private Counters getCounters(String tenantId) {
+        Counters c = counters.get(tenantId);
+        if (c == null) {
+            c = new Counters();
+            counters.put(tenantId, c);
+        }
+        return c;
+    }
+
+    /**
+     * Discards all cached bundles. Statistics are kept.
+     */
+    public synchronized void clear() {
+        for (Iterator<Map.Entry<Key, Entry>> itr = entries.entrySet().iterator(); itr.hasNext();) {
+            Map.Entry<Key, Entry> e = itr.next();
+            itr.remove();
+            evicted(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Returns the estimated size of all cached resource strings.
+     *
+     * @return The estimated size in bytes.
+     */
+    public synchronized long getEstimatedSize() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the statistics of the tenant.
+     *
+     * @param tenantId  The tenant ID.
+     * @return A snapshot of the tenant's statistics, or null if no bundles
+     *         were looked up for the tenant.
+     */
+    public synchronized TenantStatistics getStatistics(String tenantId) {
+        Counters c = counters.get(tenantId);
+        return c == null ? null : new TenantStatistics(c);
+    }
+
+    /**
+     * Returns the statistics of all tenants.
+     *
+     * @return An unmodifiable map of snapshots of the statistics, indexed by
+     *         tenant ID.
+     */
+    public synchronized Map<String, TenantStatistics> getAllStatistics() {
+        Map<String, TenantStatistics> result = new HashMap<>();
+        for (Map.Entry<String, Counters> e : counters.entrySet()) {
+            result.put(e.getKey(), new TenantStatistics(e.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * A snapshot of cache statistics of a tenant.
+     */
+    public static final class TenantStatistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadCount;
+        private final long evictionCount;
+        private final int entryCount;
+        private final long estimatedSize;
+
+        TenantStatistics(Counters c) {
+            hitCount = c.hits;
+            missCount = c.misses;
+            loadCount = c.loads;
+            evictionCount = c.evictions;
+            entryCount = c.entries;
+            estimatedSize = c.bytes;
+        }
+
+        /**
+         * Returns the number of lookups found in the cache, including cached misses.
+         *
+         * @return The hit count.
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns the number of lookups not found in the cache.
+         *
+         * @return The miss count.
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the number of bundles loaded from the service, including
+         * bundles not found.
+         *
+         * @return The load count.
+         */
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        /**
+         * Returns the number of cache entries evicted.
+         *
+         * @return The eviction count.
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the number of cache entries, including cached misses.
+         *
+         * @return The entry count.
+         */
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        /**
+         * Returns the estimated size of the tenant's cached resource strings.
+         *
+         * @return The estimated size in bytes.
+         */
+        public long getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public String toString() {
+            return "TenantStatistics[hits=" + hitCount + ", misses=" + missCount
+                    + ", loads=" + loadCount + ", evictions=" + evictionCount
+                    + ", entries=" + entryCount + ", estimatedSize=" + estimatedSize + "]";
+        }
+    }
+
+    private static final class Counters {
+        long hits;
+        long misses;
+        long loads;
+        long evictions;
+        int entries;
+        long bytes;
+    }
+
+    private static final class Key {
+        final String tenantId;
+        final String bundleId;
+        final Locale locale;
+
+        Key(String tenantId, String bundleId, Locale locale) {
+            this.tenantId = tenantId;
+            this.bundleId = bundleId;
+            this.locale = locale;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * tenantId.hashCode() + bundleId.hashCode()) * 31 + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return tenantId.equals(other.tenantId) && bundleId.equals(other.bundleId)
+                    && locale.equals(other.locale);
+        }
+    }
+
+    // Guarded by the cache
+    private static final class Entry {
+        // null for a lookup miss
+        final CloudResourceBundle bundle;
+        // The bundle's data the size was estimated from
+        Map<String, String> data;
+        long size;
+        long loadedAt;
+        boolean removed;
+
+        Entry(CloudResourceBundle bundle, long size, long loadedAt) {
+            this.bundle = bundle;
+            this.data = bundle == null ? null : bundle.getData();
+            this.size = size;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Resource bundle looking up resources in cloud bundles for a locale
+     * and its parent locales.
+     */
+    private static final class ChainedBundle extends ResourceBundle {
+        private final List<CloudResourceBundle> chain;
+
+        ChainedBundle(List<CloudResourceBundle> chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public Locale getLocale() {
+            return chain.get(0).getLocale();
+        }
+
+        @Override
+        protected Object handleGetObject(String key) {
+            for (CloudResourceBundle bundle : chain) {
+                Object value = bundle.handleGetObject(key);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.enumeration(handleKeySet());
+        }
+
+        @Override
+        protected Set<String> handleKeySet() {
+            Set<String> keys = new LinkedHashSet<>();
+            for (CloudResourceBundle bundle : chain) {
+                keys.addAll(bundle.handleKeySet());
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.ibm.g11n.pipeline.client.BundleField;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.ServiceException;
+
+/**
+ * <code>UpdatedAtCache</code> remembers the last update time of bundles for a
+ * short period, so the cloud resource bundles for all locales of a bundle
+ * share one request fetching it, when they are loaded or checked together.
+ * Concurrent requests for the same bundle wait for a single fetch. A service
+ * error is remembered for the same period as a successful result.
+ * <p>
+ * A remembered time is never newer than the resource strings loaded after it,
+ * so an update made in between is detected by a later check.
+ */
+final class UpdatedAtCache {
+    // Expired entries are purged when the cache grows beyond this size
+    private static final int PURGE_THRESHOLD = 1024;
+
+    /**
+     * Default time to live of an entry (5000 = 5 seconds)
+     */
+    static final long DEFAULT_EXPIRATION = 5000L;
+
+    private final long ttlNanos;
+    private final ConcurrentMap<Key, Fetch> fetches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param ttl   The time to live of an entry in milliseconds. Must be positive.
+     */
+    UpdatedAtCache(long ttl) {
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("Illegal ttl: " + ttl);
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+    }
+
+    /**
+     * Returns the last update time of the bundle, fetching it from the service
+     * unless a valid entry exists.
+     *
+     * @param client    The service client.
+     * @param bundleId  The bundle ID.
+     * @return The last update time of the bundle.
+     * @throws ServiceException when the last update time could not be fetched.
+     */
+    Date get(final ServiceClient client, final String bundleId) throws ServiceException {
+        Key key = new Key(client, bundleId);
+        Fetch fetch;
+        while (true) {
+            long now = System.nanoTime();
+            fetch = fetches.get(key);
+            if (fetch != null && fetch.expiresAt - now > 0) {
+                break;
+            }
+            Fetch newFetch = new Fetch(now + ttlNanos, new Callable<Date>() {
+                @Override
+                public Date call() throws ServiceException {
+                    return client.getBundleInfo(bundleId,
+                            EnumSet.of(BundleField.UPDATED_AT)).getUpdatedAt();
+                }
+            });
+            boolean added = fetch == null
+                    ? fetches.putIfAbsent(key, newFetch) == null
+                    : fetches.replace(key, fetch, newFetch);
+            if (added) {
+                newFetch.run();
+                purge(now);
+                fetch = newFetch;
+                break;
+            }
+        }
+
+        try {
+            return Uninterruptibles.getUninterruptibly(fetch);
+        } catch (ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause(), ServiceException.class);
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Removes the entry for the bundle, so the next request fetches the last
+     * update time from the service.
+     *
+     * @param bundleId  The bundle ID.
+     */
+    void remove(String bundleId) {
+        for (Iterator<Key> itr = fetches.keySet().iterator(); itr.hasNext();) {
+            if (itr.next().bundleId.equals(bundleId)) {
+                itr.remove();
+            }
+        }
+    }
+
+    private void purge(long now) {
+        if (fetches.size() > PURGE_THRESHOLD) {
+            for (Iterator<Fetch> itr = fetches.values().iterator(); itr.hasNext();) {
+                if (itr.next().expiresAt - now <= 0) {
+                    itr.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Fetch extends FutureTask<Date> {
+        final long expiresAt;
+
+        Fetch(long expiresAt, Callable<Date> callable) {
+            super(callable);
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Key {
+        // Compared by identity, because clients for different accounts
+        // may access bundles with the same ID
+        final ServiceClient client;
+        final String bundleId;
+
+        Key(ServiceClient client, String bundleId) {
+            this.client = client;
+            this.bundleId = bundleId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(client) + bundleId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return client == other.client && bundleId.equals(other.bundleId);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * <code>WebhookInvalidationChannel</code> is an {@link InvalidationChannel}
+ * receiving events as HTTP POST requests, so a webhook can notify bundle
+ * updates to the application.
+ * <p>
+ * The request body is a JSON object like below. <code>instanceId</code> and
+ * <code>languages</code> are optional.
+ * <pre>
+ * {
+ *   "instanceId": "d3f537cd617f34c86ac6b270f3065e73",
+ *   "bundleId": "com.ibm.myapp.MyMessages",
+ *   "languages": ["fr", "de"]
+ * }
+ * </pre>
+ * Requests must have the shared secret in the {@link #SECRET_HEADER} header,
+ * so that arbitrary clients cannot make the application reload bundles from
+ * the service. The receiver responds with status 204 for an accepted event,
+ * 400 for a malformed body, 401 for a missing or wrong secret, and 405 for a
+ * method other than POST.
+ * <p>
+ * An accepted event is delivered to listeners after a short delay. Events
+ * for the same bundle received in the meantime are merged into the pending
+ * one, so a burst of updates to a bundle invalidates it only once.
+ */
+public class WebhookInvalidationChannel extends InMemoryInvalidationChannel implements Closeable {
+    private static final Logger logger = Logger.getLogger(WebhookInvalidationChannel.class.getName());
+
+    /**
+     * The HTTP request header carrying the shared secret.
+     */
+    public static final String SECRET_HEADER = "X-GP-Webhook-Secret";
+
+    private static final int MAX_BODY_LENGTH = 64 * 1024;
+
+    /**
+     * Default delay before delivering an accepted event (500 = 0.5 seconds)
+     */
+    static final long DEFAULT_COALESCE_DELAY = 500L;
+
+    private final HttpServer server;
+    private final byte[] secret;
+    private final ScheduledExecutorService scheduler;
+
+    // Pending events keyed by [instanceId, bundleId]
+    private final Map<List<String>, InvalidationEvent> pendingEvents = new HashMap<>();
+    private volatile long coalesceDelay = DEFAULT_COALESCE_DELAY;
+
+    /**
+     * Creates a webhook receiver bound to the address. The receiver does not
+     * accept requests until {@link #start()} is called.
+     *
+     * @param address   The socket address to bind. Port 0 binds to an ephemeral port.
+     * @param path      The request path, such as "/gp-webhook".
+     * @param secret    The shared secret required in requests. Must not be empty.
+     * @throws IOException when the address could not be bound.
+     */
+    public WebhookInvalidationChannel(InetSocketAddress address, String path, String secret)
+            throws IOException {
+        if (address == null) {
+            throw new IllegalArgumentException("address must be specified.");
+        }
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalArgumentException("path must be specified, starting with '/'.");
+        }
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("secret must be specified.");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(address, 0);
+        server.createContext(path, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                try {
+                    exchange.sendResponseHeaders(receive(exchange), -1);
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("gp-webhook-%d")
+                    .setDaemon(true)
+                    .build());
+    }
+
+    /**
+     * Sets the delay before delivering an accepted event. Used by test cases.
+     *
+     * @param coalesceDelay The delay in milliseconds.
+     */
+    void setCoalesceDelay(long coalesceDelay) {
+        this.coalesceDelay = coalesceDelay;
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the socket address this receiver is bound to.
+     *
+     * @return The socket address.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting requests. Pending events are still delivered.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdown();
+    }
+
+    private int receive(HttpExchange exchange) throws IOException {
+        if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            return 405;
+        }
+        String reqSecret = exchange.getRequestHeaders().getFirst(SECRET_HEADER);
+        if (reqSecret == null
+                || !MessageDigest.isEqual(secret, reqSecret.getBytes(StandardCharsets.UTF_8))) {
+            return 401;
+        }
+
+        InvalidationEvent event;
+        try (InputStream is = exchange.getRequestBody()) {
+            event = parseEvent(readBody(is));
+        } catch (JsonParseException | IllegalStateException | ClassCastException
+                | IllegalArgumentException e) {
+            logger.info("Malformed invalidation request: " + e.getMessage());
+            return 400;
+        }
+        schedule(event);
+        return 204;
+    }
+
+    private void schedule(InvalidationEvent event) {
+        final List<String> key = Arrays.asList(event.getInstanceId(), event.getBundleId());
+        synchronized (pendingEvents) {
+            InvalidationEvent pending = pendingEvents.get(key);
+            if (pending != null) {
+                pendingEvents.put(key, merge(pending, event));
+                return;
+            }
+            pendingEvents.put(key, event);
+        }
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                InvalidationEvent pending;
+                synchronized (pendingEvents) {
+                    pending = pendingEvents.remove(key);
+                }
+                publish(pending);
+            }
+        }, coalesceDelay, TimeUnit.MILLISECONDS);
+    }
+
+    private static InvalidationEvent merge(InvalidationEvent e1, InvalidationEvent e2) {
+        if (e1.getLanguages().isEmpty() || e2.getLanguages().isEmpty()) {
+            // all languages
+            return new InvalidationEvent(e1.getInstanceId(), e1.getBundleId(), null);
+        }
+        Set<String> languages = new LinkedHashSet<>(e1.getLanguages());
+        languages.addAll(e2.getLanguages());
+        return new InvalidationEvent(e1.getInstanceId(), e1.getBundleId(), languages);
+    }
+
+    private static String readBody(InputStream is) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] buf = new byte[2048];
+        int bytes;
+        while ((bytes = is.read(buf)) != -1) {
+            baos.write(buf, 0, bytes);
+            if (baos.size() > MAX_BODY_LENGTH) {
+                throw new IllegalArgumentException("Request body is too large");
+            }
+        }
+        return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    static InvalidationEvent parseEvent(String json) {
+        JsonObject obj = new JsonParser().parse(json).getAsJsonObject();
+        JsonElement instanceId = obj.get("instanceId");
+        JsonElement bundleId = obj.get("bundleId");
+        if (bundleId == null || bundleId.isJsonNull()) {
+            throw new IllegalArgumentException("bundleId is missing");
+        }
+        List<String> languages = new ArrayList<>();
+        JsonElement langs = obj.get("languages");
+        if (langs != null && !langs.isJsonNull()) {
+            JsonArray langArray = langs.getAsJsonArray();
+            for (JsonElement lang : langArray) {
+                languages.add(lang.getAsString());
+            }
+        }
+        return new InvalidationEvent(
+                instanceId == null || instanceId.isJsonNull() ? null : instanceId.getAsString(),
+                bundleId.getAsString(), languages);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.iam;
+
+/**
+ * A TokenManager which is able to replace a token rejected by the service
+ * before it is expected to expire, for example, when the token was revoked.
+ *
+ */
+public interface RefreshableTokenManager extends TokenManager {
+    /**
+     * Replaces the stale token with a new token.
+     * <p>
+     * If the stored token is no longer the stale token (i.e. another caller
+     * already refreshed it), the stored token is returned without fetching
+     * a new one. Therefore, when multiple callers observe the same stale token,
+     * only one new token is fetched.
+     *
+     * @param staleToken The token rejected by the service.
+     * @return A new token.
+     * @throws TokenManagerException when a new token could not be fetched.
+     */
+    String refreshToken(String staleToken) throws TokenManagerException;
+}
@@ -19,18 +19,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
-import com.google.gson.Gson;
+import com.google.common.collect.MapMaker;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Manages IAM token for the given IAM API key. By default a stored token will
@@ -42,22 +44,55 @@ import com.google.gson.JsonParser;
  * @author Siddharth Jain
  *
  */
-public class TokenLifeCycleManager implements TokenManager {
+public class TokenLifeCycleManager implements RefreshableTokenManager {
     private static class IAMToken{
         private String access_token;
-        private String refresh_token;
-        private String token_type;
         private long expires_in;
-        private long expiration;
-        private String scope;
+
+        /**
+         * Reads the token API response. Other properties, such as
+         * refresh_token, are not used by this class. The response is read
+         * without reflection, so the class works in a native image
+         * without extra configuration.
+         */
+        static IAMToken fromJson(String json) throws IOException {
+            final IAMToken iamToken = new IAMToken();
+            try (JsonReader reader = new JsonReader(new StringReader(json))) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String name = reader.nextName();
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else if (name.equals("access_token")) {
+                        iamToken.access_token = reader.nextString();
+                    } else if (name.equals("expires_in")) {
+                        iamToken.expires_in = reader.nextLong();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            }
+            return iamToken;
+        }
     }
-    private static final Gson GSON = new Gson();
-    private static final Map<String,TokenLifeCycleManager> instances=new ConcurrentHashMap<>();
+    // Managers are shared while in use, and removed by GC when no service
+    // account refers to them, so the map does not grow with short-lived
+    // credentials.
+    private static final ConcurrentMap<String,TokenLifeCycleManager> instances=
+            new MapMaker().weakValues().makeMap();
+    // Minimum interval between forced refreshes. A token rejected for a reason
+    // other than expiry (e.g. missing permissions) is rejected again after
+    // refresh, so refreshing it on every request only floods IAM API.
+    private static final long MIN_REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
     private double tokenExpiryThreshold=0.85;
     private final String iamTokenApiUrl;
     private volatile String token;
     //Calculated according to the expiry threshold
     private volatile long expiresAt;
+    //Time of the last forced refresh, guarded by this
+    private long refreshedAt;
+    private boolean refreshed;
     private final String iamApiKey;
     static final String IAM_TOKEN_EXPIRY_THRESHOLD_PROP_KEY="IAM_TOKEN_EXPIRY_THRESHOLD";
 
@@ -110,6 +145,29 @@ public class TokenLifeCycleManager implements TokenManager {
         return token;
     }
 
+    /**
+     * Forces the stored token to be replaced when it is still the stale token
+     * rejected by the service, then returns the valid token.<br>
+     * Note: This method is thread-safe. When multiple threads report the same
+     * stale token, only one call is made to IAM API. The stored token is
+     * forced to be replaced at most once in 10 seconds; within the interval,
+     * the stored token is returned as is.
+     */
+    @Override
+    public String refreshToken(String staleToken) throws TokenManagerException {
+        synchronized (this) {
+            final long now = System.nanoTime();
+            if ((staleToken == null || staleToken.equals(token))
+                    && (!refreshed || now - refreshedAt - MIN_REFRESH_INTERVAL_NANOS >= 0)) {
+                // mark the stored token expired
+                expiresAt = now - 1;
+                refreshedAt = now;
+                refreshed = true;
+            }
+        }
+        return getToken();
+    }
+
     private boolean hasTokenExpired() {
         return expiresAt-System.nanoTime()<0;
     }
@@ -123,7 +181,7 @@ public class TokenLifeCycleManager implements TokenManager {
             }
             final int status = conn.getResponseCode();
             if (status == HttpURLConnection.HTTP_OK) {
-                return GSON.fromJson(getResponseBody(conn), IAMToken.class);
+                return IAMToken.fromJson(getResponseBody(conn));
             } else {
                 throw new IAMTokenException(
                         "Error in fetching token from IAM token API:"
@@ -198,11 +256,16 @@ public class TokenLifeCycleManager implements TokenManager {
     private static TokenLifeCycleManager getInstanceUnchecked(
             final String iamEndpoint, final String apiKey) {
         final String storeKey = iamEndpoint + apiKey;
-        if (!instances.containsKey(storeKey)) {
-            instances.putIfAbsent(storeKey,
-                    new TokenLifeCycleManager(iamEndpoint, apiKey));
+        TokenLifeCycleManager manager = instances.get(storeKey);
+        if (manager == null) {
+            final TokenLifeCycleManager newManager =
+                    new TokenLifeCycleManager(iamEndpoint, apiKey);
+            manager = instances.putIfAbsent(storeKey, newManager);
+            if (manager == null) {
+                manager = newManager;
+            }
         }
-        return instances.get(storeKey);
+        return manager;
     }
 
     /**
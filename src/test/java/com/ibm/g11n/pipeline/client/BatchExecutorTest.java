@@ -0,0 +1,201 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.ibm.g11n.pipeline.client.BatchExecutor.BatchResult;
+import com.ibm.g11n.pipeline.client.BatchExecutor.Operation;
+
+/**
+ * Test cases for BatchExecutor. These test cases do not access
+ * the service.
+ */
+public class BatchExecutorTest {
+
+    private static final ServiceClient DUMMY_CLIENT = ServiceClient.getInstance(
+            ServiceAccount.getInstance("http://localhost", "instance", "user", "password"));
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalConcurrency() {
+        new BatchExecutor(DUMMY_CLIENT, 0);
+    }
+
+    @Test
+    public void testResultsInInputOrder() throws InterruptedException {
+        List<Operation<Integer>> ops = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final int n = i;
+            ops.add(new Operation<Integer>() {
+                @Override
+                public Integer execute(ServiceClient client) {
+                    // later operations complete earlier
+                    sleep(50 - n);
+                    return n;
+                }
+            });
+        }
+
+        BatchResult<Integer> result = new BatchExecutor(DUMMY_CLIENT, 8).execute(ops);
+        assertEquals(50, result.getResults().size());
+        assertEquals(50, result.getSuccessCount());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(Integer.valueOf(i), result.getResults().get(i).getValue());
+        }
+        assertTrue("Operations should run in parallel",
+                result.getElapsedTime(TimeUnit.NANOSECONDS)
+                < result.getTotalOperationTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testOrderingKey() throws InterruptedException {
+        final List<Integer> applied = Collections.synchronizedList(new ArrayList<Integer>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Operation<Void>> ops = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int n = i;
+            ops.add(new Operation<Void>("bundle1") {
+                @Override
+                public Void execute(ServiceClient client) {
+                    int r = running.incrementAndGet();
+                    if (r > maxRunning.get()) {
+                        maxRunning.set(r);
+                    }
+                    sleep(n % 3);
+                    applied.add(n);
+                    running.decrementAndGet();
+                    return null;
+                }
+            });
+        }
+
+        new BatchExecutor(DUMMY_CLIENT, 8).execute(ops);
+        assertEquals("Operations with the same ordering key should not overlap",
+                1, maxRunning.get());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), applied.get(i));
+        }
+    }
+
+    @Test
+    public void testFailures() throws InterruptedException {
+        List<Operation<String>> ops = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int n = i;
+            ops.add(new Operation<String>("key") {
+                @Override
+                public String execute(ServiceClient client) throws ServiceException {
+                    if (n % 2 == 1) {
+                        throw new ServiceException("failed " + n);
+                    }
+                    return "ok " + n;
+                }
+            });
+        }
+
+        BatchResult<String> result = new BatchExecutor(DUMMY_CLIENT, 4).execute(ops);
+        assertEquals(5, result.getSuccessCount());
+        assertEquals(5, result.getFailureCount());
+        for (int i = 0; i < 10; i++) {
+            BatchExecutor.Result<String> r = result.getResults().get(i);
+            if (i % 2 == 1) {
+                assertFalse(r.isSuccess());
+                assertNull(r.getValue());
+                assertEquals("failed " + i, r.getFailure().getMessage());
+            } else {
+                assertTrue(r.isSuccess());
+                assertEquals("ok " + i, r.getValue());
+            }
+        }
+    }
+
+    @Test
+    public void testError() throws InterruptedException {
+        List<Operation<String>> ops = new ArrayList<>();
+        ops.add(new Operation<String>() {
+            @Override
+            public String execute(ServiceClient client) {
+                throw new StackOverflowError("too deep");
+            }
+        });
+        ops.add(new Operation<String>() {
+            @Override
+            public String execute(ServiceClient client) {
+                return "ok";
+            }
+        });
+
+        BatchResult<String> result = new BatchExecutor(DUMMY_CLIENT, 2).execute(ops);
+        assertEquals(1, result.getFailureCount());
+        assertTrue(result.getResults().get(0).getFailure() instanceof StackOverflowError);
+        assertEquals("ok", result.getResults().get(1).getValue());
+    }
+
+    @Test
+    public void testUpdateOrderingKeys() {
+        ResourceEntryDataChangeSet changeSet = new ResourceEntryDataChangeSet();
+        String key1 = BatchExecutor.updateResourceEntry("bundle1", "fr", "key1", changeSet)
+                .getOrderingKey();
+        assertEquals("Updates to the same entry should be ordered", key1,
+                BatchExecutor.updateResourceEntry("bundle1", "fr", "key1", changeSet)
+                    .getOrderingKey());
+        assertFalse("Updates to different entries should not be serialized", key1.equals(
+                BatchExecutor.updateResourceEntry("bundle1", "fr", "key2", changeSet)
+                    .getOrderingKey()));
+        assertFalse(key1.equals(
+                BatchExecutor.updateResourceEntry("bundle1", "de", "key1", changeSet)
+                    .getOrderingKey()));
+
+        Map<String, ResourceEntryDataChangeSet> entries = Collections.singletonMap("key1", changeSet);
+        assertEquals(BatchExecutor.updateResourceEntries("bundle1", "fr", entries, false)
+                    .getOrderingKey(),
+                BatchExecutor.updateResourceEntries("bundle1", "fr", entries, true)
+                    .getOrderingKey());
+        assertFalse(BatchExecutor.updateResourceEntries("bundle1", "fr", entries, false)
+                    .getOrderingKey().equals(
+                BatchExecutor.updateResourceEntries("bundle1", "de", entries, false)
+                    .getOrderingKey()));
+    }
+
+    @Test
+    public void testEmpty() throws InterruptedException {
+        List<Operation<String>> ops = Collections.emptyList();
+        BatchResult<String> result = new BatchExecutor(DUMMY_CLIENT, 4).execute(ops);
+        assertTrue(result.getResults().isEmpty());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test cases for BundleSnapshotCodec. These test cases do not access
+ * the service.
+ */
+public class BundleSnapshotCodecTest {
+
+    @Test
+    public void testResourceStrings() throws IOException {
+        Map<String, String> strings = new LinkedHashMap<>();
+        strings.put("msg2", "Hello");
+        strings.put("msg1", "こんにちは 😀");
+        strings.put("msg3", "");
+        strings.put("msg4", null);
+        strings.put("msg5", "Hello");
+
+        for (boolean compress : new boolean[] {false, true}) {
+            Map<String, String> decoded = BundleSnapshotCodec.readResourceStrings(
+                    new ByteArrayInputStream(writeStrings(strings, compress)));
+            assertEquals(strings, decoded);
+            assertEquals("Order should be preserved",
+                    new ArrayList<>(strings.keySet()), new ArrayList<>(decoded.keySet()));
+            assertSame("Repeated values should share an instance",
+                    decoded.get("msg2"), decoded.get("msg5"));
+        }
+    }
+
+    @Test
+    public void testResourceEntries() throws IOException {
+        Map<String, ResourceEntryData> entries = new LinkedHashMap<>();
+        entries.put("key1", new TestEntry("Bonjour", "Hello", TranslationStatus.TRANSLATED,
+                true, "user1", new Date(1500000000123L), Arrays.asList("note1", null),
+                Collections.singletonMap("md", "val"), "IN_REVIEW", -3));
+        entries.put("key2", new TestEntry(null, null, null,
+                false, null, null, null, null, null, null));
+        entries.put("key3", new TestEntry("Salut", "Hi", TranslationStatus.IN_PROGRESS,
+                false, "user1", new Date(0), Collections.<String>emptyList(),
+                Collections.<String, String>emptyMap(), null, 100000));
+
+        for (boolean compress : new boolean[] {false, true}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BundleSnapshotCodec.writeResourceEntries(entries, out, compress);
+            Map<String, ResourceEntryData> decoded = BundleSnapshotCodec.readResourceEntries(
+                    new ByteArrayInputStream(out.toByteArray()));
+
+            assertEquals(new ArrayList<>(entries.keySet()), new ArrayList<>(decoded.keySet()));
+            for (String key : entries.keySet()) {
+                assertEntryEquals(key, entries.get(key), decoded.get(key));
+            }
+            assertSame(decoded.get("key1").getUpdatedBy(), decoded.get("key3").getUpdatedBy());
+        }
+    }
+
+    @Test
+    public void testCompression() throws IOException {
+        Map<String, String> strings = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            strings.put("com.example.messages.key" + i, "The value of message number " + i);
+        }
+        byte[] plain = writeStrings(strings, false);
+        byte[] compressed = writeStrings(strings, true);
+        assertTrue(compressed.length < plain.length / 2);
+        assertEquals(strings, BundleSnapshotCodec.readResourceStrings(
+                new ByteArrayInputStream(compressed)));
+    }
+
+    @Test
+    public void testInvalidSnapshot() throws IOException {
+        byte[] snapshot = writeStrings(Collections.singletonMap("a", "b"), false);
+
+        // wrong payload kind
+        try {
+            BundleSnapshotCodec.readResourceEntries(new ByteArrayInputStream(snapshot));
+            fail("Resource strings should not be read as resource entries");
+        } catch (IOException e) {
+            // expected
+        }
+
+        // unsupported version
+        byte[] newer = snapshot.clone();
+        newer[4] = (byte) (BundleSnapshotCodec.FORMAT_VERSION + 1);
+        try {
+            BundleSnapshotCodec.readResourceStrings(new ByteArrayInputStream(newer));
+            fail("Newer snapshot version should be rejected");
+        } catch (IOException e) {
+            // expected
+        }
+
+        // bad magic
+        try {
+            BundleSnapshotCodec.readResourceStrings(
+                    new ByteArrayInputStream("{\"a\":\"b\"}".getBytes("UTF-8")));
+            fail("JSON should be rejected");
+        } catch (IOException e) {
+            // expected
+        }
+
+        // truncated
+        try {
+            BundleSnapshotCodec.readResourceStrings(
+                    new ByteArrayInputStream(Arrays.copyOf(snapshot, snapshot.length - 1)));
+            fail("Truncated snapshot should be rejected");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCorruptSizes() {
+        byte[] header = {'G', 'P', 'B', 'S', BundleSnapshotCodec.FORMAT_VERSION, 0, 1};
+        byte[][] payloads = {
+            // string table size Integer.MAX_VALUE
+            {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07},
+            // negative string table size
+            {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+            // string length Integer.MAX_VALUE
+            {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07},
+            // record count Integer.MAX_VALUE
+            {0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07},
+            // negative string index
+            {0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0},
+        };
+        for (byte[] payload : payloads) {
+            byte[] snapshot = Arrays.copyOf(header, header.length + payload.length);
+            System.arraycopy(payload, 0, snapshot, header.length, payload.length);
+            assertRejected(snapshot);
+        }
+    }
+
+    @Test
+    public void testCorruptBytes() throws IOException {
+        Map<String, ResourceEntryData> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            entries.put("key" + i, new TestEntry("value" + i, "source" + i,
+                    TranslationStatus.TRANSLATED, i % 2 == 0, "user", new Date(i),
+                    Arrays.asList("note"), Collections.singletonMap("md", "v" + i), null, i));
+        }
+        for (boolean compress : new boolean[] {false, true}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BundleSnapshotCodec.writeResourceEntries(entries, out, compress);
+            byte[] snapshot = out.toByteArray();
+
+            Random random = new Random(42);
+            for (int i = 0; i < 2000; i++) {
+                byte[] corrupt = snapshot.clone();
+                int pos = 7 + random.nextInt(corrupt.length - 7);
+                corrupt[pos] = (byte) random.nextInt(256);
+                try {
+                    BundleSnapshotCodec.readResourceEntries(new ByteArrayInputStream(corrupt));
+                } catch (IOException e) {
+                    // expected
+                } catch (RuntimeException | Error e) {
+                    throw new AssertionError("Corrupt byte at " + pos + " caused " + e, e);
+                }
+            }
+        }
+    }
+
+    private static void assertRejected(byte[] snapshot) {
+        try {
+            BundleSnapshotCodec.readResourceStrings(new ByteArrayInputStream(snapshot));
+            fail("Corrupt snapshot should be rejected");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private static byte[] writeStrings(Map<String, String> strings, boolean compress)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BundleSnapshotCodec.writeResourceStrings(strings, out, compress);
+        return out.toByteArray();
+    }
+
+    private static void assertEntryEquals(String key, ResourceEntryData expected,
+            ResourceEntryData actual) {
+        assertEquals(key, expected.getValue(), actual.getValue());
+        assertEquals(key, expected.getSourceValue(), actual.getSourceValue());
+        assertEquals(key, expected.getTranslationStatus(), actual.getTranslationStatus());
+        assertEquals(key, expected.isReviewed(), actual.isReviewed());
+        assertEquals(key, expected.getUpdatedBy(), actual.getUpdatedBy());
+        assertEquals(key, expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(key, expected.getNotes(), actual.getNotes());
+        assertEquals(key, expected.getMetadata(), actual.getMetadata());
+        assertEquals(key, expected.getPartnerStatus(), actual.getPartnerStatus());
+        assertEquals(key, expected.getSequenceNumber(), actual.getSequenceNumber());
+        if (actual.getNotes() != null) {
+            try {
+                actual.getNotes().add("x");
+                fail("Notes should be unmodifiable");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+        }
+    }
+
+    private static class TestEntry extends ResourceEntryData {
+        private final List<String> notes;
+        private final Map<String, String> metadata;
+        private final String partnerStatus;
+        private final Integer sequenceNumber;
+
+        TestEntry(String value, String sourceValue, TranslationStatus translationStatus,
+                boolean reviewed, String updatedBy, Date updatedAt, List<String> notes,
+                Map<String, String> metadata, String partnerStatus, Integer sequenceNumber) {
+            super(value, sourceValue, translationStatus, reviewed, updatedBy, updatedAt);
+            this.notes = notes;
+            this.metadata = metadata;
+            this.partnerStatus = partnerStatus;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public List<String> getNotes() {
+            return notes;
+        }
+
+        @Override
+        public Map<String, String> getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public String getPartnerStatus() {
+            return partnerStatus;
+        }
+
+        @Override
+        public Integer getSequenceNumber() {
+            return sequenceNumber;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test cases for ServiceClientRegistry. These test cases use a local
+ * service stub, and do not access the service.
+ */
+public class ServiceClientRegistryTest {
+    private String url;
+    private ServiceClientRegistry registry;
+
+    @Rule
+    public StubServer server = new StubServer()
+            .route(".*/v2/bundles", 200, "{\"status\":\"SUCCESS\",\"bundleIds\":[\"b1\"]}");
+
+    @Before
+    public void setUp() {
+        url = server.getUrl("/gp");
+        registry = new ServiceClientRegistry();
+    }
+
+    @After
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    public void testSharedClient() {
+        ServiceClient client = registry.getClient(
+                ServiceAccount.getInstance(url, "instance1", "user", "password"));
+        assertSame("Equivalent accounts should share the client", client,
+                registry.getClient(ServiceAccount.getInstance(url, "instance1", "user", "password")));
+        assertNotSame(client,
+                registry.getClient(ServiceAccount.getInstance(url, "instance2", "user", "password")));
+        assertNotSame(client,
+                registry.getClient(ServiceAccount.getInstance(url, "instance1", "user", "other")));
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    public void testSharedClientConfiguration() {
+        ServiceAccount account = ServiceAccount.getInstance(url, "instance1", "user", "password");
+        ServiceClient shared = ServiceClient.getSharedInstance(account);
+        try {
+            shared.setSortedResults(false);
+            fail("Shared client should not be reconfigured");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            registry.getClient(account).setAuthScheme(ServiceClient.AuthScheme.BASIC);
+            fail("Shared client should not be reconfigured");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertTrue(shared.isSortedResults());
+
+        ServiceClient own = ServiceClient.getInstance(account);
+        own.setSortedResults(false);
+        own.setAuthScheme(ServiceClient.AuthScheme.BASIC);
+        assertFalse(own.isSortedResults());
+    }
+
+    @Test
+    public void testRelease() {
+        ServiceAccount account = ServiceAccount.getInstance(url, "instance1", "user", "password");
+        ServiceClient client = registry.getClient(account);
+        assertTrue(registry.release(account));
+        assertFalse(registry.release(account));
+        assertNull(registry.getStatistics(account));
+        assertNotSame(client, registry.getClient(account));
+    }
+
+    @Test
+    public void testStatistics() throws ServiceException {
+        ServiceAccount account = ServiceAccount.getInstance(url, "instance1", "user", "password");
+        ServiceClient client = registry.getClient(account);
+        assertEquals(1, client.getBundleIds().size());
+        try {
+            client.getBundleInfo("unknown");
+            fail("getBundleInfo should fail");
+        } catch (ServiceException e) {
+            // expected
+        }
+
+        ServiceClientStatistics stats = registry.getStatistics(account);
+        assertSame(client.getStatistics(), stats);
+        assertEquals(2, stats.getRequestCount());
+        assertEquals(1, stats.getErrorCount());
+        assertTrue(stats.getBytesReceived() > 0);
+        assertSame(stats, registry.getAllStatistics().get(url + "/instance1"));
+    }
+
+    @Test
+    public void testClose() {
+        ServiceAccount account = ServiceAccount.getInstance(url, "instance1", "user", "password");
+        registry.getClient(account);
+        registry.close();
+        assertTrue(registry.isClosed());
+        assertEquals(0, registry.size());
+        try {
+            registry.getClient(account);
+            fail("getClient should fail after close");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            ServiceClientRegistry.getDefault().close();
+            fail("The default registry should not be closed");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertSame(ServiceClient.getSharedInstance(account), ServiceClient.getSharedInstance(
+                ServiceAccount.getInstance(url, "instance1", "user", "password")));
+    }
+
+    @Test
+    public void testDefaultRegistryHoldsClientsWeakly() throws InterruptedException {
+        ServiceAccount account = ServiceAccount.getInstance(url, "weak-" + System.nanoTime(),
+                "user", "password");
+        ServiceClient client = ServiceClient.getSharedInstance(account);
+        assertSame(client.getStatistics(), ServiceClientRegistry.getDefault().getStatistics(account));
+
+        WeakReference<ServiceClient> ref = new WeakReference<>(client);
+        client = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (ref.get() != null && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("Unreferenced client should be collected", ref.get());
+        assertNull(ServiceClientRegistry.getDefault().getStatistics(account));
+    }
+
+    @Test
+    public void testNullAccount() {
+        try {
+            registry.getClient(null);
+            fail("getClient should fail");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
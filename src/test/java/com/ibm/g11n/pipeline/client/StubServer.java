@@ -0,0 +1,151 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.rules.ExternalResource;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server stubbing Globalization Pipeline and IAM token APIs
+ * for test cases, used as a JUnit rule. The server is started before each
+ * test case, and stopped after it.
+ * <p>
+ * A request is handled by the first route whose pattern matches the entire
+ * request path. A request matching no route is answered with 404.
+ */
+public final class StubServer extends ExternalResource {
+
+    /**
+     * Handles a request matching a route.
+     */
+    public interface Route {
+        /**
+         * Handles the request.
+         *
+         * @param exchange  The HTTP exchange.
+         * @param path      The matcher of the route pattern for the request path,
+         *                  for reading captured groups.
+         * @throws IOException when an I/O error occurs.
+         */
+        void handle(HttpExchange exchange, Matcher path) throws IOException;
+    }
+
+    private static final class Entry {
+        final Pattern pattern;
+        final Route route;
+
+        Entry(Pattern pattern, Route route) {
+            this.pattern = pattern;
+            this.route = route;
+        }
+    }
+
+    private final List<Entry> routes = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @Override
+    protected void before() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String path = exchange.getRequestURI().getPath();
+                for (Entry entry : routes) {
+                    Matcher m = entry.pattern.matcher(path);
+                    if (m.matches()) {
+                        entry.route.handle(exchange, m);
+                        return;
+                    }
+                }
+                respond(exchange, 404, "{\"status\":\"ERROR\",\"message\":\"Not found\"}");
+            }
+        });
+        server.start();
+    }
+
+    @Override
+    protected void after() {
+        server.stop(0);
+    }
+
+    /**
+     * Adds a route.
+     *
+     * @param pathPattern   The regular expression matching the request path.
+     * @param route         The route handling matched requests.
+     * @return This server.
+     */
+    public StubServer route(String pathPattern, Route route) {
+        routes.add(new Entry(Pattern.compile(pathPattern), route));
+        return this;
+    }
+
+    /**
+     * Adds a route answering matched requests with a fixed JSON response.
+     *
+     * @param pathPattern   The regular expression matching the request path.
+     * @param status        The HTTP status.
+     * @param json          The response body.
+     * @return This server.
+     */
+    public StubServer route(String pathPattern, final int status, final String json) {
+        return route(pathPattern, new Route() {
+            @Override
+            public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                respond(exchange, status, json);
+            }
+        });
+    }
+
+    /**
+     * Returns the URL of the server followed by the path.
+     *
+     * @param path  The path, such as "/gp".
+     * @return The URL.
+     */
+    public String getUrl(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * Sends a JSON response.
+     *
+     * @param exchange  The HTTP exchange.
+     * @param status    The HTTP status.
+     * @param json      The response body.
+     * @throws IOException when an I/O error occurs.
+     */
+    public static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * Test cases for Iso8601DateAdapter.
+ */
+public class Iso8601DateAdapterTest {
+
+    private static SimpleDateFormat createReferenceFormat() {
+        // The date format used by previous versions
+        return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX");
+    }
+
+    @Test
+    public void testParseCompatibility() throws ParseException {
+        String[] inputs = {
+            "2017-01-02T03:04:05.678Z",
+            "1970-01-01T00:00:00.000Z",
+            "1969-12-31T23:59:59.999Z",
+            "2000-02-29T12:00:00.001Z",
+            "2026-10-19T23:30:00.500+09",
+            "2026-10-19T01:30:00.500-05:00",
+            "2100-12-31T23:59:59.999-11",
+        };
+        SimpleDateFormat ref = createReferenceFormat();
+        for (String input : inputs) {
+            assertEquals(input, ref.parse(input).getTime(), Iso8601DateAdapter.parse(input));
+        }
+    }
+
+    @Test
+    public void testParseOffsetWithoutColon() throws ParseException {
+        assertEquals(Iso8601DateAdapter.parse("2026-10-19T23:30:00.500+09:30"),
+                Iso8601DateAdapter.parse("2026-10-19T23:30:00.500+0930"));
+        assertEquals(Iso8601DateAdapter.parse("2026-10-19T14:00:00.500Z"),
+                Iso8601DateAdapter.parse("2026-10-19T23:30:00.500+0930"));
+    }
+
+    @Test
+    public void testParseFraction() throws ParseException {
+        long base = Iso8601DateAdapter.parse("2017-01-02T03:04:05Z");
+        assertEquals(base + 500, Iso8601DateAdapter.parse("2017-01-02T03:04:05.5Z"));
+        assertEquals(base + 120, Iso8601DateAdapter.parse("2017-01-02T03:04:05.12Z"));
+        assertEquals(base + 123, Iso8601DateAdapter.parse("2017-01-02T03:04:05.123456789Z"));
+    }
+
+    @Test
+    public void testInvalidDates() {
+        String[] inputs = {
+            "",
+            "2017-01-02",
+            "2017-01-02 03:04:05.678Z",
+            "2017-13-02T03:04:05.678Z",
+            "2017-02-29T03:04:05.678Z",
+            "2017-01-02T24:04:05.678Z",
+            "2017-01-02T03:04:05.Z",
+            "2017-01-02T03:04:05.678",
+            "2017-01-02T03:04:05.678+9",
+            "2017-01-02T03:04:05.678Zabc",
+            "2017-0a-02T03:04:05.678Z",
+        };
+        for (String input : inputs) {
+            try {
+                Iso8601DateAdapter.parse(input);
+                fail("ParseException expected for " + input);
+            } catch (ParseException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testFormatRoundTrip() throws ParseException {
+        SimpleDateFormat ref = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        ref.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Random rand = new Random(31);
+        // from 1970 to 2100
+        long range = 4102444800000L;
+        for (int i = 0; i < 10000; i++) {
+            long time = (long) (rand.nextDouble() * range);
+            String formatted = Iso8601DateAdapter.format(time);
+            assertEquals(ref.format(new Date(time)), formatted);
+            assertEquals(time, Iso8601DateAdapter.parse(formatted));
+        }
+        assertEquals("1969-12-31T23:59:59.999Z", Iso8601DateAdapter.format(-1));
+    }
+
+    @Test
+    public void testGson() {
+        Gson gson = new GsonBuilder().registerTypeAdapter(Date.class, new Iso8601DateAdapter()).create();
+        Date date = gson.fromJson("\"2017-01-02T03:04:05.678Z\"", Date.class);
+        assertEquals(1483326245678L, date.getTime());
+        assertEquals("\"2017-01-02T03:04:05.678Z\"", gson.toJson(date));
+        assertNull(gson.fromJson("null", Date.class));
+        try {
+            gson.fromJson("\"Jan 2, 2017\"", Date.class);
+            fail("JsonSyntaxException expected");
+        } catch (JsonSyntaxException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.g11n.pipeline.client.NewResourceEntryData;
+import com.ibm.g11n.pipeline.client.NewTranslationConfigData;
+
+/**
+ * Verifies the native-image reflection metadata shipped in the jar covers
+ * the classes mapped to JSON by reflection. These test cases do not access
+ * the service.
+ */
+public class NativeImageConfigTest {
+
+    private static final String CONFIG_DIR =
+            "META-INF/native-image/com.ibm.g11n.pipeline/gp-java-client/";
+
+    private static final String BASE_PACKAGE = "com.ibm.g11n.pipeline.";
+
+    private static Set<String> reflectClasses;
+
+    @BeforeClass
+    public static void loadReflectConfig() throws IOException {
+        List<Map<String, Object>> config;
+        try (InputStream is = NativeImageConfigTest.class.getClassLoader()
+                .getResourceAsStream(CONFIG_DIR + "reflect-config.json")) {
+            assertNotNull("reflect-config.json should be available", is);
+            Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
+            config = new Gson().fromJson(reader,
+                    new TypeToken<List<Map<String, Object>>>() {}.getType());
+        }
+        reflectClasses = new HashSet<>();
+        for (Map<String, Object> entry : config) {
+            reflectClasses.add((String) entry.get("name"));
+        }
+    }
+
+    @Test
+    public void testClassesExist() {
+        for (String className : reflectClasses) {
+            try {
+                Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                throw new AssertionError("Unknown class in reflect-config.json: " + className);
+            }
+        }
+    }
+
+    @Test
+    public void testJsonMappedClassesRegistered() {
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> cls : ServiceClientImpl.class.getDeclaredClasses()) {
+            if (ServiceResponse.class.isAssignableFrom(cls)) {
+                queue.add(cls);
+            }
+        }
+        assertTrue(queue.size() > 10);
+
+        // request bodies
+        queue.add(NewResourceEntryData.class);
+        queue.add(NewTranslationConfigData.class);
+        queue.add(TranslationRequestDataImpl.RestInputTranslationRequestData.class);
+        queue.add(DocumentTranslationRequestDataImpl.RestInputDocumentTranslationRequestData.class);
+
+        Set<Class<?>> visited = new HashSet<>();
+        while (!queue.isEmpty()) {
+            Class<?> cls = queue.poll();
+            if (!visited.add(cls)) {
+                continue;
+            }
+            assertTrue(cls.getName() + " should be registered in reflect-config.json",
+                    reflectClasses.contains(cls.getName()));
+            if (cls.isEnum()) {
+                continue;
+            }
+            for (Class<?> c = cls; c != null && c.getName().startsWith(BASE_PACKAGE);
+                    c = c.getSuperclass()) {
+                queue.add(c);
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        addReferencedClasses(field.getGenericType(), queue);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testServiceResourcesRegistered() throws IOException {
+        try (InputStream is = NativeImageConfigTest.class.getClassLoader()
+                .getResourceAsStream(CONFIG_DIR + "resource-config.json")) {
+            assertNotNull("resource-config.json should be available", is);
+        }
+        assertTrue(reflectClasses.contains(
+                "com.ibm.g11n.pipeline.client.rb.CloudResourceBundleControlProvider"));
+    }
+
+    private static void addReferencedClasses(Type type, Deque<Class<?>> queue) {
+        if (type instanceof Class) {
+            Class<?> cls = (Class<?>) type;
+            if (cls.isArray()) {
+                addReferencedClasses(cls.getComponentType(), queue);
+            } else if (cls.getName().startsWith(BASE_PACKAGE)) {
+                queue.add(cls);
+            }
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType pt = (ParameterizedType) type;
+            addReferencedClasses(pt.getRawType(), queue);
+            for (Type arg : pt.getActualTypeArguments()) {
+                addReferencedClasses(arg, queue);
+            }
+        } else if (type instanceof GenericArrayType) {
+            addReferencedClasses(((GenericArrayType) type).getGenericComponentType(), queue);
+        }
+    }
+}
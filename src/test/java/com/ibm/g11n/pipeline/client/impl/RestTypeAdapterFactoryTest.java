@@ -0,0 +1,212 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ibm.g11n.pipeline.client.TranslationStatus;
+import com.ibm.g11n.pipeline.client.impl.BundleDataImpl.RestBundle;
+import com.ibm.g11n.pipeline.client.impl.ResourceEntryDataImpl.RestResourceEntry;
+import com.ibm.g11n.pipeline.client.impl.SegmentDataImpl.RestSegmentData;
+import com.ibm.g11n.pipeline.client.impl.TranslationRequestDataImpl.RestTranslationRequest;
+
+/**
+ * Test cases for the streaming type adapters in RestTypeAdapterFactory.
+ * Results are compared with Gson's reflective adapters.
+ */
+public class RestTypeAdapterFactoryTest {
+
+    private static final Gson GSON = ServiceClientImpl.createGson(null);
+
+    private static final Gson REFLECTIVE_GSON = new GsonBuilder()
+            .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX")
+            .registerTypeAdapter(TranslationStatus.class,
+                    new ServiceClientImpl.EnumWithFallbackAdapter<TranslationStatus>(TranslationStatus.UNKNOWN))
+            .create();
+
+    private static final String ENTRY_JSON = "{"
+            + "\"value\":\"Hello\","
+            + "\"sourceValue\":\"Hello\","
+            + "\"reviewed\":true,"
+            + "\"translationStatus\":\"translated\","
+            + "\"notes\":[\"note1\",\"note2\"],"
+            + "\"metadata\":{\"k1\":\"v1\",\"k2\":null},"
+            + "\"partnerStatus\":\"DONE\","
+            + "\"sequenceNumber\":12,"
+            + "\"unknownField\":{\"nested\":[1,2,3]},"
+            + "\"updatedBy\":\"user1\","
+            + "\"updatedAt\":\"2026-01-02T03:04:05.678Z\""
+            + "}";
+
+    @Test
+    public void testAdaptersRegistered() {
+        assertTrue(GSON.getAdapter(RestResourceEntry.class) instanceof RestResourceEntry.JsonAdapter);
+        assertTrue(GSON.getAdapter(RestSegmentData.class) instanceof RestSegmentData.JsonAdapter);
+        assertTrue(GSON.getAdapter(RestBundle.class) instanceof RestBundle.JsonAdapter);
+        assertTrue(GSON.getAdapter(RestTranslationRequest.class) instanceof RestTranslationRequest.JsonAdapter);
+    }
+
+    @Test
+    public void testResourceEntry() {
+        RestResourceEntry actual = GSON.fromJson(ENTRY_JSON, RestResourceEntry.class);
+        RestResourceEntry expected = REFLECTIVE_GSON.fromJson(ENTRY_JSON, RestResourceEntry.class);
+
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getSourceValue(), actual.getSourceValue());
+        assertEquals(expected.isReviewed(), actual.isReviewed());
+        assertEquals(TranslationStatus.TRANSLATED, actual.getTranslationStatus());
+        assertEquals(expected.getNotes(), actual.getNotes());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        assertTrue(actual.getMetadata().containsKey("k2"));
+        assertEquals(expected.getPartnerStatus(), actual.getPartnerStatus());
+        assertEquals(expected.getSequenceNumber(), actual.getSequenceNumber());
+        assertEquals(expected.getUpdatedBy(), actual.getUpdatedBy());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+    }
+
+    @Test
+    public void testResourceEntryNullsAndFallback() {
+        String json = "{\"value\":null,\"reviewed\":null,\"translationStatus\":\"NEW_STATUS\","
+                + "\"notes\":null,\"sequenceNumber\":null,\"updatedAt\":null}";
+        RestResourceEntry entry = GSON.fromJson(json, RestResourceEntry.class);
+        assertNull(entry.getValue());
+        assertFalse(entry.isReviewed());
+        assertEquals(TranslationStatus.UNKNOWN, entry.getTranslationStatus());
+        assertNull(entry.getNotes());
+        assertNull(entry.getSequenceNumber());
+        assertNull(entry.getUpdatedAt());
+    }
+
+    @Test
+    public void testSegmentData() {
+        String json = "{\"segmentKey\":\"seg1\"," + ENTRY_JSON.substring(1);
+        RestSegmentData actual = GSON.fromJson(json, RestSegmentData.class);
+        RestSegmentData expected = REFLECTIVE_GSON.fromJson(json, RestSegmentData.class);
+
+        assertEquals("seg1", actual.getSegmentKey());
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getTranslationStatus(), actual.getTranslationStatus());
+        assertEquals(expected.getNotes(), actual.getNotes());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        assertEquals(expected.getSequenceNumber(), actual.getSequenceNumber());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+    }
+
+    @Test
+    public void testBundle() {
+        String json = "{\"sourceLanguage\":\"en\",\"targetLanguages\":[\"fr\",\"de\",\"ja\"],"
+                + "\"readOnly\":true,\"notes\":[\"n\"],\"metadata\":{\"a\":\"b\"},"
+                + "\"partner\":\"IBM\",\"segmentSeparatorPattern\":\"\\\\.\","
+                + "\"noTranslationPattern\":\"\\\\{.*\\\\}\",\"updatedBy\":\"admin\","
+                + "\"updatedAt\":\"2026-03-04T05:06:07.890+09:00\"}";
+        RestBundle actual = GSON.fromJson(json, RestBundle.class);
+        RestBundle expected = REFLECTIVE_GSON.fromJson(json, RestBundle.class);
+
+        assertEquals(expected.getSourceLanguage(), actual.getSourceLanguage());
+        assertEquals(expected.getTargetLanguages(), actual.getTargetLanguages());
+        assertEquals(expected.isReadOnly(), actual.isReadOnly());
+        assertEquals(expected.getNotes(), actual.getNotes());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        assertEquals(expected.getPartner(), actual.getPartner());
+        assertEquals(expected.getSegmentSeparatorPattern(), actual.getSegmentSeparatorPattern());
+        assertEquals(expected.getNoTranslationPattern(), actual.getNoTranslationPattern());
+        assertEquals(expected.getUpdatedBy(), actual.getUpdatedBy());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+    }
+
+    @Test
+    public void testTranslationRequest() {
+        String json = "{\"partner\":\"IBM\",\"name\":\"tr1\","
+                + "\"targetLanguagesByBundle\":{\"b1\":[\"fr\",\"de\"],\"b2\":[\"ja\"]},"
+                + "\"organization\":\"org\",\"emails\":[\"a@example.com\"],\"phones\":[\"123\"],"
+                + "\"domains\":[\"GENERAL\"],\"notes\":[\"n\"],\"metadata\":{\"a\":\"b\"},"
+                + "\"partnerParameters\":{\"p\":\"q\"},\"status\":\"SUBMITTED\","
+                + "\"wordCountsByBundle\":{\"b1\":{\"sourceLanguage\":\"en\",\"counts\":{\"fr\":10}}},"
+                + "\"estimatedCompletion\":\"2026-01-01T00:00:00.000Z\","
+                + "\"createdAt\":\"2026-01-02T00:00:00.000Z\","
+                + "\"startedAt\":\"2026-01-03T00:00:00.000Z\","
+                + "\"submittedAt\":\"2026-01-04T00:00:00.000Z\","
+                + "\"translatedAt\":\"2026-01-05T00:00:00.000Z\","
+                + "\"mergedAt\":\"2026-01-06T00:00:00.000Z\","
+                + "\"updatedBy\":\"admin\",\"updatedAt\":\"2026-01-07T00:00:00.000Z\"}";
+        RestTranslationRequest actual = GSON.fromJson(json, RestTranslationRequest.class);
+        RestTranslationRequest expected = REFLECTIVE_GSON.fromJson(json, RestTranslationRequest.class);
+
+        assertEquals(expected.getPartner(), actual.getPartner());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getTargetLanguagesByBundle(), actual.getTargetLanguagesByBundle());
+        assertEquals(expected.getOrganization(), actual.getOrganization());
+        assertEquals(expected.getEmails(), actual.getEmails());
+        assertEquals(expected.getPhones(), actual.getPhones());
+        assertEquals(expected.getDomains(), actual.getDomains());
+        assertEquals(expected.getNotes(), actual.getNotes());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        assertEquals(expected.getPartnerParameters(), actual.getPartnerParameters());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals("en", actual.getWordCountsByBundle().get("b1").getSourceLanguage());
+        assertEquals(expected.getWordCountsByBundle().get("b1").getCounts(),
+                actual.getWordCountsByBundle().get("b1").getCounts());
+        assertEquals(expected.getEstimatedCompletion(), actual.getEstimatedCompletion());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getStartedAt(), actual.getStartedAt());
+        assertEquals(expected.getSubmittedAt(), actual.getSubmittedAt());
+        assertEquals(expected.getTranslatedAt(), actual.getTranslatedAt());
+        assertEquals(expected.getMergedAt(), actual.getMergedAt());
+        assertEquals(expected.getUpdatedBy(), actual.getUpdatedBy());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+    }
+
+    @Test
+    public void testMapResponse() {
+        MapResponseWithEntries resp = new GsonBuilder()
+                .registerTypeAdapterFactory(new RestTypeAdapterFactory())
+                .registerTypeAdapterFactory(
+                        new RestTypeAdapterFactory.MapResponseAdapterFactory<MapResponseWithEntries, RestResourceEntry>(
+                                MapResponseWithEntries.class, "resourceEntries", RestResourceEntry.class) {
+                            @Override
+                            MapResponseWithEntries newResponse() {
+                                return new MapResponseWithEntries();
+                            }
+
+                            @Override
+                            void setMap(MapResponseWithEntries response, Map<String, RestResourceEntry> map) {
+                                response.resourceEntries = map;
+                            }
+                        })
+                .create()
+                .fromJson("{\"status\":\"SUCCESS\",\"message\":\"ok\",\"other\":[1,{}],"
+                        + "\"resourceEntries\":{\"k1\":{\"value\":\"v1\"},\"k2\":{\"value\":\"v2\"}}}",
+                        MapResponseWithEntries.class);
+        assertEquals(ServiceResponse.Status.SUCCESS, resp.getStatus());
+        assertEquals("ok", resp.getMessage());
+        assertEquals(2, resp.resourceEntries.size());
+        assertEquals("v1", resp.resourceEntries.get("k1").getValue());
+        assertEquals("v2", resp.resourceEntries.get("k2").getValue());
+    }
+
+    private static class MapResponseWithEntries extends ServiceResponse {
+        Map<String, RestResourceEntry> resourceEntries;
+    }
+}
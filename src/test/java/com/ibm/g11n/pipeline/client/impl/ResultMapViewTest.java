@@ -0,0 +1,146 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.collect.Maps.EntryTransformer;
+
+/**
+ * Test cases for ResultMapView.
+ */
+public class ResultMapViewTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private final EntryTransformer<String, String, StringBuilder> transformer =
+            new EntryTransformer<String, String, StringBuilder>() {
+        @Override
+        public StringBuilder transformEntry(String key, String value) {
+            conversions.incrementAndGet();
+            return new StringBuilder(value);
+        }
+    };
+
+    private static Map<String, String> createRestMap(int size) {
+        Map<String, String> restMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            restMap.put("key" + i, "value" + i);
+        }
+        return restMap;
+    }
+
+    @Test
+    public void testView() {
+        Map<String, String> restMap = new LinkedHashMap<>();
+        restMap.put("c", "C");
+        restMap.put("a", "A");
+        restMap.put("b", "B");
+
+        Map<String, StringBuilder> sorted = new ResultMapView<>(restMap, transformer, true);
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(sorted.keySet()));
+        assertEquals("Keys should be iterated without conversion", 0, conversions.get());
+        assertTrue(sorted.containsKey("b"));
+        assertFalse(sorted.containsKey("d"));
+        assertNull(sorted.get("d"));
+        assertNull(sorted.get(null));
+        assertEquals("B", sorted.get("b").toString());
+        assertSame("Values should be converted once", sorted.get("b"), sorted.get("b"));
+        assertSame(sorted.get("b"), new ArrayList<>(sorted.values()).get(1));
+        assertEquals(3, conversions.get());
+
+        Map<String, StringBuilder> unsorted = new ResultMapView<>(restMap, transformer, false);
+        assertEquals("Decoded order should be preserved",
+                Arrays.asList("c", "a", "b"), new ArrayList<>(unsorted.keySet()));
+        assertEquals(3, unsorted.size());
+
+        try {
+            unsorted.put("d", new StringBuilder("D"));
+            fail("put should not be supported");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            unsorted.keySet().iterator().remove();
+            fail("remove should not be supported");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLargeView() {
+        Map<String, String> restMap = createRestMap(5000);
+        Map<String, StringBuilder> view = new ResultMapView<>(restMap, transformer, false);
+        assertEquals(restMap.keySet(), view.keySet());
+        for (Map.Entry<String, String> entry : restMap.entrySet()) {
+            assertEquals(entry.getValue(), view.get(entry.getKey()).toString());
+        }
+        assertTrue(new ResultMapView<>(new HashMap<String, String>(), transformer, true).isEmpty());
+    }
+
+    @Test
+    public void testAllocation() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported()
+                && threadBean.isThreadAllocatedMemoryEnabled());
+
+        final int size = 10000;
+        Map<String, String> restMap = createRestMap(size);
+        long threadId = Thread.currentThread().getId();
+        // warm up
+        ServiceClientImpl.copyResultMap(restMap, transformer, true);
+        new ResultMapView<>(restMap, transformer, true).get("key0");
+
+        // a caller reading 10 entries of a sorted result
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        Map<String, StringBuilder> copy = ServiceClientImpl.copyResultMap(restMap, transformer, true);
+        for (int i = 0; i < 10; i++) {
+            copy.get("key" + i);
+        }
+        long copyAllocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        Map<String, StringBuilder> view = new ResultMapView<>(restMap, transformer, true);
+        for (int i = 0; i < 10; i++) {
+            view.get("key" + i);
+        }
+        long viewAllocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        assertEquals(copy.size(), view.size());
+        assertTrue("Copy: " + copyAllocated + " bytes, view: " + viewAllocated + " bytes",
+                viewAllocated * 2 < copyAllocated);
+    }
+}
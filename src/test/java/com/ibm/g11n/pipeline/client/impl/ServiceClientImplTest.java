@@ -0,0 +1,389 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import static com.ibm.g11n.pipeline.client.StubServer.respond;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.io.ByteStreams;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.g11n.pipeline.client.BundleData;
+import com.ibm.g11n.pipeline.client.BundleField;
+import com.ibm.g11n.pipeline.client.JsonCodec;
+import com.ibm.g11n.pipeline.client.NewResourceEntryData;
+import com.ibm.g11n.pipeline.client.ResourceEntryData;
+import com.ibm.g11n.pipeline.client.ResourceEntryField;
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.ServiceException;
+import com.ibm.g11n.pipeline.client.StubServer;
+import com.ibm.g11n.pipeline.client.TranslationRequestData;
+import com.ibm.g11n.pipeline.client.TranslationRequestField;
+import com.ibm.g11n.pipeline.client.TranslationRequestStatus;
+import com.ibm.g11n.pipeline.iam.TokenManagerFactory;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Test cases for ServiceClientImpl using a local stub server.
+ */
+public class ServiceClientImplTest {
+
+    private String baseUrl;
+
+    private final AtomicInteger tokenCount = new AtomicInteger();
+    private final AtomicInteger apiCount = new AtomicInteger();
+    private final Set<String> revokedTokens = Collections.synchronizedSet(new HashSet<String>());
+
+    private volatile String lastRequestBody;
+    private volatile String successResponse = "{\"status\":\"SUCCESS\",\"bundleIds\":[\"bundle1\"]}";
+    private volatile String lastTransferEncoding;
+    private volatile String lastQuery;
+
+    @Rule
+    public StubServer server = new StubServer()
+            // IAM token API stub
+            .route("/iam/identity/token", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    String token = "token-" + tokenCount.incrementAndGet();
+                    respond(exchange, 200, "{\"access_token\":\"" + token + "\",\"expires_in\":3600}");
+                }
+            })
+            // Globalization Pipeline stub
+            .route("/gp/.*", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    apiCount.incrementAndGet();
+                    lastTransferEncoding = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+                    lastQuery = exchange.getRequestURI().getRawQuery();
+                    try (InputStream is = exchange.getRequestBody()) {
+                        lastRequestBody = new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8);
+                    }
+                    String auth = exchange.getRequestHeaders().getFirst("Authorization");
+                    if (auth == null || !auth.startsWith("Bearer ")
+                            || revokedTokens.contains(auth.substring("Bearer ".length()))) {
+                        exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+                        respond(exchange, 401, "{\"status\":\"ERROR\",\"message\":\"Unauthorized\"}");
+                        return;
+                    }
+                    respond(exchange, 200, successResponse);
+                }
+            });
+
+    @Before
+    public void setUp() {
+        baseUrl = server.getUrl("");
+    }
+
+
+    private ServiceClient createIamClient() {
+        ServiceAccount account = ServiceAccount.getInstance(baseUrl + "/gp", "instance1",
+                TokenManagerFactory.getTokenLifeCycleManager(baseUrl + "/iam", "key-" + System.nanoTime()));
+        return ServiceClient.getInstance(account);
+    }
+
+    @Test
+    public void testRevokedTokenIsReplaced() throws ServiceException {
+        ServiceClient client = createIamClient();
+        assertEquals(Collections.singleton("bundle1"), client.getBundleIds());
+        assertEquals(1, tokenCount.get());
+        assertEquals(1, apiCount.get());
+
+        // token-1 is revoked before it expires
+        revokedTokens.add("token-1");
+        assertEquals(Collections.singleton("bundle1"), client.getBundleIds());
+        assertEquals("A new token should be fetched", 2, tokenCount.get());
+        assertEquals("The rejected request should be replayed once", 3, apiCount.get());
+
+        assertEquals(Collections.singleton("bundle1"), client.getBundleIds());
+        assertEquals(2, tokenCount.get());
+        assertEquals(4, apiCount.get());
+    }
+
+    @Test
+    public void testReplayOnlyOnce() {
+        ServiceClient client = createIamClient();
+        // every token is rejected
+        revokedTokens.add("token-1");
+        revokedTokens.add("token-2");
+        revokedTokens.add("token-3");
+        try {
+            client.getBundleIds();
+            fail("ServiceException should be thrown");
+        } catch (ServiceException e) {
+            // expected
+        }
+        assertEquals(2, tokenCount.get());
+        assertEquals(2, apiCount.get());
+    }
+
+    @Test
+    public void testRefreshInterval() {
+        ServiceClient client = createIamClient();
+        // every token is rejected, e.g. the API key lacks permissions
+        revokedTokens.add("token-1");
+        revokedTokens.add("token-2");
+        revokedTokens.add("token-3");
+        for (int i = 0; i < 3; i++) {
+            try {
+                client.getBundleIds();
+                fail("ServiceException should be thrown");
+            } catch (ServiceException e) {
+                // expected
+            }
+        }
+        assertEquals("The token should not be refreshed on every request", 2, tokenCount.get());
+        assertEquals("Requests should not be replayed with the same token", 4, apiCount.get());
+    }
+
+    @Test
+    public void testNoReplayForNonIamAccount() {
+        ServiceClient client = ServiceClient.getInstance(
+                ServiceAccount.getInstance(baseUrl + "/gp", "instance1", "user", "password"));
+        try {
+            client.getBundleIds();
+            fail("ServiceException should be thrown");
+        } catch (ServiceException e) {
+            assertEquals("Unauthorized", e.getMessage());
+        }
+        assertEquals(0, tokenCount.get());
+        assertEquals(1, apiCount.get());
+    }
+
+    private static Map<String, NewResourceEntryData> createEntries(int count) {
+        Map<String, NewResourceEntryData> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put("key" + i, new NewResourceEntryData("value \u00e9\u3042 " + i));
+        }
+        return entries;
+    }
+
+    private void assertUploadedEntries(Map<String, NewResourceEntryData> expected) {
+        Map<String, Map<String, String>> uploaded = new Gson().fromJson(lastRequestBody,
+                new TypeToken<Map<String, Map<String, String>>>() {}.getType());
+        assertEquals(expected.size(), uploaded.size());
+        for (Map.Entry<String, NewResourceEntryData> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().getValue(), uploaded.get(entry.getKey()).get("value"));
+        }
+    }
+
+    @Test
+    public void testStreamingUpload() throws ServiceException {
+        ServiceClient client = createIamClient();
+        Map<String, NewResourceEntryData> entries = createEntries(1000);
+        client.uploadResourceEntries("bundle1", "en", entries);
+
+        assertEquals("Request body should be streamed", "chunked", lastTransferEncoding);
+        assertUploadedEntries(entries);
+    }
+
+    @Test
+    public void testStreamingUploadReplay() throws ServiceException {
+        ServiceClient client = createIamClient();
+        revokedTokens.add("token-1");
+        Map<String, NewResourceEntryData> entries = createEntries(100);
+        client.uploadResourceEntries("bundle1", "en", entries);
+
+        assertEquals(2, tokenCount.get());
+        assertEquals(2, apiCount.get());
+        assertUploadedEntries(entries);
+    }
+
+    @Test
+    public void testStreamingUploadUnauthorized() {
+        ServiceClient client = createIamClient();
+        // every token is rejected, and the body of 401 response to
+        // the streamed request is not available
+        revokedTokens.add("token-1");
+        revokedTokens.add("token-2");
+        try {
+            client.uploadResourceEntries("bundle1", "en", createEntries(100));
+            fail("ServiceException should be thrown");
+        } catch (ServiceException e) {
+            // expected
+        }
+        assertEquals(2, apiCount.get());
+    }
+
+    @Test
+    public void testHmacUploadIsBuffered() {
+        ServiceClient client = ServiceClient.getInstance(
+                ServiceAccount.getInstance(baseUrl + "/gp", "instance1", "user", "password"));
+        Map<String, NewResourceEntryData> entries = createEntries(10);
+        try {
+            client.uploadResourceEntries("bundle1", "en", entries);
+            fail("ServiceException should be thrown");
+        } catch (ServiceException e) {
+            // expected - the stub accepts only IAM tokens
+        }
+        assertNull(lastTransferEncoding);
+        assertUploadedEntries(entries);
+    }
+
+    @Test
+    public void testCustomJsonCodec() throws ServiceException {
+        ServiceClient client = createIamClient();
+        final JsonCodec defaultCodec = client.getJsonCodec();
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        client.setJsonCodec(new JsonCodec() {
+            @Override
+            public <T> T fromJson(Reader reader, Class<T> classOfT) throws IOException {
+                reads.incrementAndGet();
+                return defaultCodec.fromJson(reader, classOfT);
+            }
+
+            @Override
+            public void toJson(Object src, Type typeOfSrc, Writer writer) throws IOException {
+                writes.incrementAndGet();
+                defaultCodec.toJson(src, typeOfSrc, writer);
+            }
+        });
+
+        assertEquals(Collections.singleton("bundle1"), client.getBundleIds());
+        assertEquals(1, reads.get());
+        assertEquals(0, writes.get());
+
+        Map<String, NewResourceEntryData> entries = createEntries(10);
+        client.uploadResourceEntries("bundle1", "en", entries);
+        assertEquals(2, reads.get());
+        assertEquals(1, writes.get());
+        assertUploadedEntries(entries);
+    }
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void testBrokenJsonCodecProvider() throws Exception {
+        File services = tmpFolder.newFolder("META-INF", "services");
+        Files.write(new File(services, JsonCodec.class.getName()).toPath(),
+                "com.example.MissingJsonCodec\n".getBytes(StandardCharsets.UTF_8));
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] {tmpFolder.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            assertTrue("Default codec should be used",
+                    ServiceClientImpl.loadJsonCodec(loader) instanceof GsonJsonCodec);
+        }
+        assertSame(ServiceClientImpl.getDefaultJsonCodec(), createIamClient().getJsonCodec());
+    }
+
+    @Test
+    public void testResultMaps() throws ServiceException {
+        ServiceClient client = createIamClient();
+        successResponse = "{\"status\":\"SUCCESS\",\"resourceEntries\":{"
+                + "\"c\":{\"value\":\"C\"},\"a\":{\"value\":\"A\"},\"b\":{\"value\":\"B\"}}}";
+
+        assertTrue(client.isSortedResults());
+        Map<String, ResourceEntryData> sorted = client.getResourceEntries("bundle1", "en");
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(sorted.keySet()));
+        assertEquals("B", sorted.get("b").getValue());
+        assertSame("Values should be converted once", sorted.get("b"), sorted.get("b"));
+        assertEquals("A", sorted.remove("a").getValue());
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(sorted.keySet()));
+
+        client.setSortedResults(false);
+        Map<String, ResourceEntryData> unsorted = client.getResourceEntries("bundle1", "en");
+        assertEquals("Decoded order should be preserved",
+                Arrays.asList("c", "a", "b"), new ArrayList<>(unsorted.keySet()));
+        assertEquals("A", unsorted.get("a").getValue());
+        assertSame(unsorted.get("a"), unsorted.get("a"));
+        unsorted.put("d", sorted.get("b"));
+        assertEquals(Arrays.asList("c", "a", "b", "d"), new ArrayList<>(unsorted.keySet()));
+
+        client.setLazyResults(true);
+        client.setSortedResults(true);
+        Map<String, ResourceEntryData> view = client.getResourceEntries("bundle1", "en");
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(view.keySet()));
+        assertEquals("C", view.get("c").getValue());
+        assertSame(view.get("c"), view.get("c"));
+        try {
+            view.remove("a");
+            fail("Lazy result map should be immutable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFieldProjection() throws ServiceException {
+        ServiceClient client = createIamClient();
+
+        successResponse = "{\"status\":\"SUCCESS\",\"resourceEntries\":{"
+                + "\"a\":{\"value\":\"A\"}}}";
+        Map<String, ResourceEntryData> entries = client.getResourceEntries("bundle1", "en",
+                EnumSet.of(ResourceEntryField.VALUE, ResourceEntryField.UPDATED_AT));
+        assertEquals("fields=resourceEntries.value,resourceEntries.updatedAt", lastQuery);
+        assertEquals("A", entries.get("a").getValue());
+        assertNull(entries.get("a").getSourceValue());
+
+        client.getResourceEntries("bundle1", "en", Collections.<ResourceEntryField>emptySet());
+        assertEquals("fields=resourceEntries", lastQuery);
+
+        successResponse = "{\"status\":\"SUCCESS\",\"bundle\":{\"sourceLanguage\":\"en\"}}";
+        BundleData bundle = client.getBundleInfo("bundle1", EnumSet.of(BundleField.SOURCE_LANGUAGE));
+        assertEquals("fields=bundle.sourceLanguage", lastQuery);
+        assertEquals("en", bundle.getSourceLanguage());
+        assertNull(bundle.getTargetLanguages());
+
+        client.getBundleInfo("bundle1");
+        assertNull(lastQuery);
+
+        successResponse = "{\"status\":\"SUCCESS\",\"id\":\"tr1\","
+                + "\"translationRequest\":{\"status\":\"DRAFT\",\"name\":\"req\"}}";
+        TranslationRequestData tr = client.getTranslationRequest("tr1",
+                EnumSet.of(TranslationRequestField.NAME));
+        assertEquals("fields=translationRequest.status,translationRequest.name", lastQuery);
+        assertEquals(TranslationRequestStatus.DRAFT, tr.getStatus());
+        assertEquals("req", tr.getName());
+
+        client.getTranslationRequest("tr1",
+                EnumSet.of(TranslationRequestField.STATUS, TranslationRequestField.NAME));
+        assertEquals("Required field should not be repeated",
+                "fields=translationRequest.status,translationRequest.name", lastQuery);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.ibm.g11n.pipeline.client.impl.ResourceEntryDataImpl.RestResourceEntry;
+
+/**
+ * Test cases for StringDeduplicator.
+ */
+public class StringDeduplicatorTest {
+
+    @Test
+    public void testDedup() {
+        StringDeduplicator dedup = new StringDeduplicator(16);
+        String s1 = new String("en-US");
+        String s2 = new String("en-US");
+        assertNotSame(s1, s2);
+        assertSame(s1, dedup.get(s1));
+        assertSame(s1, dedup.get(s2));
+        assertNull(dedup.get(null));
+    }
+
+    @Test
+    public void testTableSize() {
+        assertEquals(16, new StringDeduplicator(16).getTableSize());
+        assertEquals(1024, new StringDeduplicator(1000).getTableSize());
+        assertEquals(1, new StringDeduplicator(1).getTableSize());
+        assertEquals(1 << 16, new StringDeduplicator(Integer.MAX_VALUE).getTableSize());
+    }
+
+    @Test
+    public void testBounded() {
+        StringDeduplicator dedup = new StringDeduplicator(4);
+        for (int i = 0; i < 1000; i++) {
+            String s = "value" + i;
+            assertSame(s, dedup.get(s));
+        }
+        // still works after many collisions
+        String s1 = new String("value999");
+        assertEquals("value999", dedup.get(s1));
+    }
+
+    @Test
+    public void testDisabled() {
+        StringDeduplicator dedup = new StringDeduplicator(0);
+        assertEquals(0, dedup.getTableSize());
+        String s1 = new String("fr");
+        String s2 = new String("fr");
+        dedup.get(s1);
+        assertSame(s2, dedup.get(s2));
+    }
+
+    @Test
+    public void testLongString() {
+        StringDeduplicator dedup = new StringDeduplicator(16);
+        String s1 = Strings.repeat("x", 100);
+        String s2 = Strings.repeat("x", 100);
+        dedup.get(s1);
+        assertSame("Long strings are not shared", s2, dedup.get(s2));
+    }
+
+    @Test
+    public void testDecodedEntries() {
+        Gson gson = ServiceClientImpl.createGson(null);
+        String json = "{\"value\":\"v\",\"partnerStatus\":\"DONE\",\"updatedBy\":\"user1\","
+                + "\"metadata\":{\"source\":\"s\"}}";
+        RestResourceEntry e1 = gson.fromJson(json, RestResourceEntry.class);
+        RestResourceEntry e2 = gson.fromJson(json, RestResourceEntry.class);
+        assertSame(e1.getPartnerStatus(), e2.getPartnerStatus());
+        assertSame(e1.getUpdatedBy(), e2.getUpdatedBy());
+        Map.Entry<String, String> m1 = e1.getMetadata().entrySet().iterator().next();
+        Map.Entry<String, String> m2 = e2.getMetadata().entrySet().iterator().next();
+        assertSame(m1.getKey(), m2.getKey());
+        assertNotSame("Values are not shared", e1.getValue(), e2.getValue());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import org.junit.Test;
+
+/**
+ * Test cases for BundleMessageFormatter.
+ */
+public class BundleMessageFormatterTest {
+
+    public static class Messages extends ListResourceBundle {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                {"greeting", "Hello, {0}!"},
+                {"files", "{0,choice,0#no files|1#one file|1<{0,number,integer} files}"},
+                {"date", "Today is {0,date,long}."},
+            };
+        }
+    }
+
+    @Test
+    public void testFormat() {
+        ResourceBundle bundle = new Messages();
+        assertEquals("Hello, World!", BundleMessageFormatter.format(bundle, "greeting", "World"));
+        assertEquals("Hello, Duke!", BundleMessageFormatter.format(bundle, "greeting", "Duke"));
+        for (int n : new int[] {0, 1, 1234}) {
+            assertEquals(MessageFormat.format(bundle.getString("files"), n),
+                    BundleMessageFormatter.format(bundle, "files", n));
+        }
+        Date date = new Date(1483326245678L);
+        assertEquals(new MessageFormat(bundle.getString("date"), Locale.getDefault(Locale.Category.FORMAT))
+                .format(new Object[] {date}),
+                BundleMessageFormatter.format(bundle, "date", date));
+    }
+
+    @Test
+    public void testCopy() {
+        ResourceBundle bundle = new Messages();
+        MessageFormat fmt1 = BundleMessageFormatter.getMessageFormat(bundle, "greeting");
+        MessageFormat fmt2 = BundleMessageFormatter.getMessageFormat(bundle, "greeting");
+        assertNotSame("Each caller should get its own instance", fmt1, fmt2);
+        fmt1.applyPattern("Bye, {0}.");
+        assertEquals("Hello, World!", BundleMessageFormatter.format(bundle, "greeting", "World"));
+    }
+
+    @Test(expected = MissingResourceException.class)
+    public void testMissing() {
+        BundleMessageFormatter.format(new Messages(), "unknown");
+    }
+}
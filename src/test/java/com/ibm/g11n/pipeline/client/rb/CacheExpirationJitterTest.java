@@ -0,0 +1,111 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+
+/**
+ * Test cases for jittered and staggered cache expiration time used by
+ * CloudResourceBundleControl. These test cases do not access the service.
+ */
+public class CacheExpirationJitterTest {
+    private static final long TTL = 60000L;
+    private static final int BUNDLES = 300;
+    private static final long SIMULATION_MILLIS = 20 * 60000L;
+
+    private static CloudResourceBundleControl newControl(double jitter, boolean stagger) {
+        CloudResourceBundleControl control = CloudResourceBundleControl.getInstance(
+                ServiceAccount.getInstance("http://localhost/gp", "instance1", "user", "password"),
+                TTL);
+        control.setTtlJitter(jitter, stagger);
+        return control;
+    }
+
+    private static String baseName(int idx) {
+        return "com.example.Messages" + idx;
+    }
+
+    /**
+     * Simulates bundles loaded at the same time and used continuously, so
+     * each bundle is reloaded as soon as it expires. Returns the maximum
+     * number of reloads in a second.
+     */
+    private static int peakReloadsPerSecond(CloudResourceBundleControl control) {
+        int[] reloads = new int[(int) (SIMULATION_MILLIS / 1000) + 1];
+        for (int i = 0; i < BUNDLES; i++) {
+            long time = control.getTimeToLive(baseName(i), Locale.FRENCH);
+            while (time < SIMULATION_MILLIS) {
+                reloads[(int) (time / 1000)]++;
+                time += control.getTimeToLive(baseName(i), Locale.FRENCH);
+            }
+        }
+        int peak = 0;
+        for (int count : reloads) {
+            peak = Math.max(peak, count);
+        }
+        return peak;
+    }
+
+    @Test
+    public void testFixedTtl() {
+        CloudResourceBundleControl control = newControl(0.0, false);
+        assertEquals(TTL, control.getTimeToLive(baseName(0), Locale.FRENCH));
+        assertEquals("All bundles should be reloaded together", BUNDLES, peakReloadsPerSecond(control));
+    }
+
+    @Test
+    public void testJitter() {
+        CloudResourceBundleControl control = newControl(0.5, false);
+        for (int i = 0; i < 1000; i++) {
+            long ttl = control.getTimeToLive(baseName(i), Locale.FRENCH);
+            assertTrue(ttl > TTL / 2 && ttl <= TTL);
+        }
+        int peak = peakReloadsPerSecond(control);
+        assertTrue("Reloads should be spread over time, peak: " + peak, peak <= BUNDLES / 10);
+    }
+
+    @Test
+    public void testStagger() {
+        CloudResourceBundleControl control = newControl(0.5, true);
+        assertEquals("Staggered expiration should be fixed per bundle",
+                control.getTimeToLive(baseName(0), Locale.FRENCH),
+                control.getTimeToLive(baseName(0), Locale.FRENCH));
+        int peak = peakReloadsPerSecond(control);
+        assertTrue("Reloads should be spread over time, peak: " + peak, peak <= BUNDLES / 10);
+    }
+
+    @Test
+    public void testSpecialTtl() {
+        CloudResourceBundleControl control = CloudResourceBundleControl.getInstance(
+                ServiceAccount.getInstance("http://localhost/gp", "instance1", "user", "password"),
+                CloudResourceBundleControl.TTL_NO_EXPIRATION_CONTROL);
+        control.setTtlJitter(0.5, false);
+        assertEquals(CloudResourceBundleControl.TTL_NO_EXPIRATION_CONTROL,
+                control.getTimeToLive(baseName(0), Locale.FRENCH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalJitter() {
+        newControl(1.5, false);
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import static com.ibm.g11n.pipeline.client.StubServer.respond;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ibm.g11n.pipeline.client.BatchExecutor.BatchResult;
+import com.ibm.g11n.pipeline.client.BatchExecutor.Result;
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.ServiceClientStatistics;
+import com.ibm.g11n.pipeline.client.ServiceException;
+import com.ibm.g11n.pipeline.client.StubServer;
+import com.ibm.g11n.pipeline.client.rb.CloudResourceBundleControl.LookupMode;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Test cases for the staleness check, refresh-ahead mode, disk cache,
+ * negative cache, invalidation, message format cache and prefetch used by
+ * CloudResourceBundleControl.
+ * These test cases use a local service stub, and do not access the service.
+ */
+public class CloudResourceBundleReloadTest {
+    private static final String BASE_NAME = "com.example.Messages";
+
+    private CloudResourceBundleControl control;
+    private String format;
+
+    private final AtomicInteger bundleInfoCount = new AtomicInteger();
+    private final AtomicInteger resourceStringsCount = new AtomicInteger();
+    private final AtomicInteger unavailableCount = new AtomicInteger();
+    private volatile String updatedAt = "2017-01-02T03:04:05.678Z";
+    private volatile boolean available = true;
+    private volatile boolean bundleInfoAvailable = true;
+    private volatile String extraBundleId = "java.util.Excluded";
+    private volatile String greeting = "Bonjour";
+    private volatile CountDownLatch resourceStringsEntered;
+    private volatile CountDownLatch resourceStringsReleased;
+    private ServiceAccount account;
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Rule
+    public StubServer server = new StubServer()
+            .route("/gp/[^/]+/v2/bundles", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    if (checkAvailable(exchange)) {
+                        respond(exchange, 200, "{\"status\":\"SUCCESS\",\"bundleIds\":[\""
+                                + BASE_NAME + "\",\"" + extraBundleId + "\"]}");
+                    }
+                }
+            })
+            .route("/gp/[^/]+/v2/bundles/" + Pattern.quote(BASE_NAME), new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    if (!checkAvailable(exchange)) {
+                        return;
+                    }
+                    bundleInfoCount.incrementAndGet();
+                    if (!bundleInfoAvailable) {
+                        respond(exchange, 403, "{\"status\":\"ERROR\",\"message\":\"Forbidden\"}");
+                        return;
+                    }
+                    respond(exchange, 200, "{\"status\":\"SUCCESS\",\"bundle\":{"
+                            + "\"sourceLanguage\":\"en\",\"targetLanguages\":[\"fr\",\"de\"],"
+                            + "\"updatedAt\":\"" + updatedAt + "\"}}");
+                }
+            })
+            .route("/gp/[^/]+/v2/bundles/" + Pattern.quote(BASE_NAME) + "/(fr|de|en)",
+                    new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    if (!checkAvailable(exchange)) {
+                        return;
+                    }
+                    resourceStringsCount.incrementAndGet();
+                    String value = greeting;
+                    CountDownLatch released = resourceStringsReleased;
+                    if (released != null) {
+                        resourceStringsEntered.countDown();
+                        try {
+                            released.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    respond(exchange, 200, "{\"status\":\"SUCCESS\","
+                            + "\"resourceStrings\":{\"greeting\":\"" + value + "\"}}");
+                }
+            })
+            .route("/gp/.*", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    if (checkAvailable(exchange)) {
+                        respond(exchange, 404, "{\"status\":\"ERROR\",\"message\":\"Not found\"}");
+                    }
+                }
+            });
+
+    /**
+     * Responds 503 when the service stub is set unavailable.
+     *
+     * @return true if the request should be handled.
+     */
+    private boolean checkAvailable(HttpExchange exchange) throws IOException {
+        if (available) {
+            return true;
+        }
+        unavailableCount.incrementAndGet();
+        respond(exchange, 503, "{\"status\":\"ERROR\",\"message\":\"Unavailable\"}");
+        return false;
+    }
+
+    @Before
+    public void setUp() {
+        account = ServiceAccount.getInstance(
+                server.getUrl("/gp"), "instance1", "user", "password");
+        control = CloudResourceBundleControl.getInstance(account, LookupMode.REMOTE_ONLY);
+        format = control.getFormats(BASE_NAME).get(0);
+        ResourceBundle.clearCache(getClass().getClassLoader());
+    }
+
+    @Test
+    public void testNeedsReload() throws Exception {
+        // every check fetches the bundle's last update time
+        control.setUpdatedAtCache(null);
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle bundle = control.newBundle(BASE_NAME, Locale.FRENCH, format, loader, false);
+        assertNotNull(bundle);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+        assertEquals(1, resourceStringsCount.get());
+
+        long loadTime = System.currentTimeMillis();
+        assertFalse("Unchanged bundle should not be reloaded",
+                control.needsReload(BASE_NAME, Locale.FRENCH, format, loader, bundle, loadTime));
+        assertEquals(2, bundleInfoCount.get());
+
+        available = false;
+        assertFalse("Cached bundle should be kept when the service is unavailable",
+                control.needsReload(BASE_NAME, Locale.FRENCH, format, loader, bundle, loadTime));
+
+        available = true;
+        updatedAt = "2017-01-02T03:04:06.000Z";
+        assertTrue("Updated bundle should be reloaded",
+                control.needsReload(BASE_NAME, Locale.FRENCH, format, loader, bundle, loadTime));
+        assertEquals("Resource strings should not be fetched by the check",
+                1, resourceStringsCount.get());
+    }
+
+    @Test
+    public void testUpdatedAtShared() throws Exception {
+        control.setUpdatedAtCache(new UpdatedAtCache(500L));
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle fr = control.newBundle(BASE_NAME, Locale.FRENCH, format, loader, false);
+        ResourceBundle de = control.newBundle(BASE_NAME, Locale.GERMAN, format, loader, false);
+        assertNull(control.newBundle(BASE_NAME, Locale.JAPANESE, format, loader, false));
+        assertEquals(2, resourceStringsCount.get());
+        assertEquals("Last update time should be fetched once for all locales",
+                1, bundleInfoCount.get());
+
+        assertFalse(control.needsReload(BASE_NAME, Locale.FRENCH, format, loader, fr, 0));
+        assertFalse(control.needsReload(BASE_NAME, Locale.GERMAN, format, loader, de, 0));
+        assertEquals(1, bundleInfoCount.get());
+
+        // checked again after the cached time expires
+        updatedAt = "2017-01-02T03:04:06.000Z";
+        Thread.sleep(600);
+        assertTrue(control.needsReload(BASE_NAME, Locale.FRENCH, format, loader, fr, 0));
+        assertTrue(control.needsReload(BASE_NAME, Locale.GERMAN, format, loader, de, 0));
+        assertEquals(2, bundleInfoCount.get());
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+        CloudResourceBundleControl refreshAheadControl = CloudResourceBundleControl.getInstance(
+                account, CloudResourceBundleControl.DEFAULT_CACHE_EXPIRATION,
+                null, null, null, LookupMode.REMOTE_ONLY, true);
+        refreshAheadControl.setUpdatedAtCache(null);
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle bundle = refreshAheadControl.newBundle(BASE_NAME, Locale.FRENCH, format,
+                loader, false);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+
+        greeting = "Salut";
+        updatedAt = "2017-01-02T03:04:06.000Z";
+        long loadTime = System.currentTimeMillis();
+        assertFalse("Expired bundle should continue to be used",
+                refreshAheadControl.needsReload(BASE_NAME, Locale.FRENCH, format, loader,
+                        bundle, loadTime));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!"Salut".equals(bundle.getString("greeting")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Bundle contents should be refreshed in background",
+                "Salut", bundle.getString("greeting"));
+        assertTrue(bundle.containsKey("greeting"));
+        assertEquals(2, resourceStringsCount.get());
+
+        // unchanged bundle is not fetched again
+        int infoCount = bundleInfoCount.get();
+        refreshAheadControl.needsReload(BASE_NAME, Locale.FRENCH, format, loader, bundle, loadTime);
+        while (bundleInfoCount.get() == infoCount && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertEquals(2, resourceStringsCount.get());
+    }
+
+    @Test
+    public void testDiskCache() throws Exception {
+        BundleDiskCache diskCache = new BundleDiskCache(tmpFolder.getRoot());
+        assertNull(diskCache.read(account, BASE_NAME, Locale.FRENCH));
+
+        CloudResourceBundle bundle = CloudResourceBundle.loadBundle(account, BASE_NAME,
+                Locale.FRENCH, diskCache, null, false);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+        assertEquals(1, resourceStringsCount.get());
+        assertTrue(diskCache.getFile(account, BASE_NAME, Locale.FRENCH).isFile());
+
+        // served from the disk cache while the service is unavailable
+        available = false;
+        bundle = CloudResourceBundle.loadBundle(account, BASE_NAME, Locale.FRENCH,
+                diskCache, null, false);
+        assertNotNull(bundle);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (unavailableCount.get() < 2 && System.nanoTime() < deadline) {
+            // wait for the background revalidation requesting the bundle's
+            // last update time and resource strings
+            Thread.sleep(10);
+        }
+
+        // served from the disk cache, and revalidated in background
+        available = true;
+        greeting = "Salut";
+        updatedAt = "2017-01-02T03:04:06.000Z";
+        bundle = CloudResourceBundle.loadBundle(account, BASE_NAME, Locale.FRENCH,
+                diskCache, null, false);
+        while (!"Salut".equals(bundle.getString("greeting")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Salut", bundle.getString("greeting"));
+        assertEquals(2, resourceStringsCount.get());
+
+        // the disk cache is written after the bundle contents are replaced
+        BundleDiskCache.Entry cached = diskCache.read(account, BASE_NAME, Locale.FRENCH);
+        while (!"Salut".equals(cached.data.get("greeting")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            cached = diskCache.read(account, BASE_NAME, Locale.FRENCH);
+        }
+        assertEquals("Salut", cached.data.get("greeting"));
+        assertEquals(1483326246000L, cached.bundleUpdatedAt.getTime());
+    }
+
+    @Test
+    public void testDiskCacheReload() throws Exception {
+        BundleDiskCache diskCache = new BundleDiskCache(tmpFolder.getRoot());
+        ClassLoader loader = getClass().getClassLoader();
+        CloudResourceBundleControl warmControl = CloudResourceBundleControl.getInstance(
+                account, 200L, null, null, null, LookupMode.REMOTE_ONLY, false);
+        warmControl.setDiskCache(diskCache);
+        assertEquals("Bonjour", ResourceBundle.getBundle(BASE_NAME, Locale.FRENCH, loader,
+                warmControl).getString("greeting"));
+
+        // started with the disk cache
+        ResourceBundle.clearCache(loader);
+        int infoCount = bundleInfoCount.get();
+        CloudResourceBundleControl diskControl = CloudResourceBundleControl.getInstance(
+                account, 200L, null, null, null, LookupMode.REMOTE_ONLY, false);
+        diskControl.setDiskCache(diskCache);
+        assertEquals("Bonjour", ResourceBundle.getBundle(BASE_NAME, Locale.FRENCH, loader,
+                diskControl).getString("greeting"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (bundleInfoCount.get() == infoCount && System.nanoTime() < deadline) {
+            // wait for the background revalidation
+            Thread.sleep(10);
+        }
+
+        // the update detected after expiry is loaded from the service
+        greeting = "Salut";
+        updatedAt = "2017-01-02T03:04:06.000Z";
+        Thread.sleep(300);
+        assertEquals("Modified bundle should not be reloaded from the disk cache",
+                "Salut", ResourceBundle.getBundle(BASE_NAME, Locale.FRENCH, loader,
+                        diskControl).getString("greeting"));
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        ServiceClientStatistics stats = ServiceClient.getSharedInstance(account).getStatistics();
+        assertNull(control.newBundle(BASE_NAME, Locale.JAPANESE, format, loader, false));
+        long requestCount = stats.getRequestCount();
+
+        assertNull(control.newBundle(BASE_NAME, Locale.JAPANESE, format, loader, false));
+        assertEquals("Cached miss should not access the service",
+                requestCount, stats.getRequestCount());
+
+        control.clearNegativeCache();
+        assertNull(control.newBundle(BASE_NAME, Locale.JAPANESE, format, loader, false));
+        assertTrue(stats.getRequestCount() > requestCount);
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        InMemoryInvalidationChannel channel = new InMemoryInvalidationChannel();
+        control.subscribe(channel);
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle bundle = control.newBundle(BASE_NAME, Locale.FRENCH, format, loader, false);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+        assertNull(control.newBundle(BASE_NAME, Locale.JAPANESE, format, loader, false));
+        ServiceClientStatistics stats = ServiceClient.getSharedInstance(account).getStatistics();
+        long requestCount = stats.getRequestCount();
+
+        // events for other languages or service instances are ignored
+        greeting = "Salut";
+        channel.publish(BASE_NAME, "de");
+        channel.publish(new InvalidationEvent("instance2", BASE_NAME, null));
+        Thread.sleep(100);
+        assertEquals(requestCount, stats.getRequestCount());
+
+        // the bundle is refreshed even though its last update time is unchanged
+        channel.publish(new InvalidationEvent("instance1", BASE_NAME, Arrays.asList("fr", "ja")));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!"Salut".equals(bundle.getString("greeting")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Salut", bundle.getString("greeting"));
+
+        // cached miss is discarded
+        requestCount = stats.getRequestCount();
+        assertNull(control.newBundle(BASE_NAME, Locale.JAPANESE, format, loader, false));
+        assertTrue(stats.getRequestCount() > requestCount);
+
+        control.unsubscribe(channel);
+        greeting = "Coucou";
+        channel.publish(BASE_NAME);
+        Thread.sleep(100);
+        assertEquals("Salut", bundle.getString("greeting"));
+    }
+
+    @Test
+    public void testInvalidationDuringRefresh() throws Exception {
+        CloudResourceBundle bundle = CloudResourceBundle.loadBundle(account, BASE_NAME,
+                Locale.FRENCH, null, null, false);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+
+        // a refresh is blocked after fetching the strings before the next update
+        resourceStringsEntered = new CountDownLatch(1);
+        resourceStringsReleased = new CountDownLatch(1);
+        updatedAt = "2017-02-03T04:05:06.789Z";
+        greeting = "Salut";
+        bundle.refreshAsync();
+        assertTrue(resourceStringsEntered.await(10, TimeUnit.SECONDS));
+
+        // the bundle is updated and invalidated while the refresh is running
+        greeting = "Coucou";
+        bundle.invalidate();
+        resourceStringsReleased.countDown();
+        resourceStringsReleased = null;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!"Coucou".equals(bundle.getString("greeting")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Invalidation should not be lost",
+                "Coucou", bundle.getString("greeting"));
+    }
+
+    @Test
+    public void testBundleInfoUnavailable() throws Exception {
+        bundleInfoAvailable = false;
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle bundle = control.newBundle(BASE_NAME, Locale.FRENCH, format, loader, false);
+        assertNotNull("Bundle should be loaded without its last update time", bundle);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+        assertTrue(control.needsReload(BASE_NAME, Locale.FRENCH, format, loader, bundle, 0));
+
+        greeting = "Salut";
+        ((CloudResourceBundle) bundle).refresh();
+        assertEquals("Salut", bundle.getString("greeting"));
+    }
+
+    @Test
+    public void testMessageFormat() throws Exception {
+        greeting = "Bonjour {0}";
+        CloudResourceBundle bundle = CloudResourceBundle.loadBundle(account, BASE_NAME,
+                Locale.FRENCH, null, null, false);
+        assertEquals("Bonjour Marie", BundleMessageFormatter.format(bundle, "greeting", "Marie"));
+        assertSame("Compiled format should be cached",
+                bundle.getMessageFormat("greeting"), bundle.getMessageFormat("greeting"));
+        assertNull(bundle.getMessageFormat("unknown"));
+
+        greeting = "Salut {0}";
+        updatedAt = "2017-01-02T03:04:06.000Z";
+        bundle.refresh();
+        assertEquals("Compiled format should be discarded by refresh",
+                "Salut Marie", BundleMessageFormatter.format(bundle, "greeting", "Marie"));
+    }
+
+    @Test
+    public void testPrefetch() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        BatchResult<ResourceBundle> result = control.prefetch(
+                Collections.singletonMap(BASE_NAME,
+                        Arrays.asList(Locale.FRENCH, Locale.GERMAN, Locale.JAPANESE)),
+                loader, 4);
+        List<Result<ResourceBundle>> results = result.getResults();
+        assertEquals(3, results.size());
+        assertEquals(Locale.FRENCH, results.get(0).getValue().getLocale());
+        assertEquals(Locale.GERMAN, results.get(1).getValue().getLocale());
+        assertFalse(results.get(2).isSuccess());
+        assertTrue(results.get(2).getFailure() instanceof MissingResourceException);
+        assertEquals(1, result.getFailureCount());
+
+        int count = resourceStringsCount.get();
+        ResourceBundle bundle = ResourceBundle.getBundle(BASE_NAME, Locale.FRENCH, loader, control);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+        assertEquals("Prefetched bundle should be cached", count, resourceStringsCount.get());
+    }
+
+    @Test
+    public void testPrefetchAll() throws Exception {
+        BatchResult<ResourceBundle> result = control.prefetchAll(2);
+        assertEquals("Source and target languages of non-excluded bundles should be loaded",
+                3, result.getSuccessCount());
+        assertEquals(0, result.getFailureCount());
+        assertEquals(3, resourceStringsCount.get());
+    }
+
+    @Test
+    public void testOverlay() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        CloudResourceBundleControl overlayControl = CloudResourceBundleControl.getInstance(
+                account, LookupMode.REMOTE_OVERLAY);
+        ResourceBundle bundle = ResourceBundle.getBundle(BASE_NAME, Locale.FRENCH, loader,
+                overlayControl);
+        assertEquals(Locale.FRENCH, bundle.getLocale());
+        assertEquals("Remote value should override local value",
+                "Bonjour", bundle.getString("greeting"));
+        assertEquals("Au revoir", bundle.getString("farewell"));
+        assertEquals("Messages", bundle.getString("title"));
+        assertTrue(bundle.keySet().containsAll(Arrays.asList("greeting", "farewell", "title")));
+
+        // local bundle only
+        String overlayFormat = overlayControl.getFormats(BASE_NAME).get(0);
+        ResourceBundle root = overlayControl.newBundle(BASE_NAME, Locale.ROOT, overlayFormat,
+                loader, false);
+        assertEquals("Hello", root.getString("greeting"));
+        assertNull(overlayControl.newBundle(BASE_NAME, Locale.JAPANESE, overlayFormat,
+                loader, false));
+
+        // merged values follow the refreshed remote bundle
+        greeting = "Salut";
+        ((OverlayResourceBundle) bundle).getRemote().invalidate();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!"Salut".equals(bundle.getString("greeting")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Salut", bundle.getString("greeting"));
+        assertEquals("Au revoir", bundle.getString("farewell"));
+    }
+
+    @Test
+    public void testOverlayRemoteRecovery() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        CloudResourceBundleControl overlayControl = CloudResourceBundleControl.getInstance(
+                account, LookupMode.REMOTE_OVERLAY);
+        String overlayFormat = overlayControl.getFormats(BASE_NAME).get(0);
+
+        available = false;
+        ResourceBundle bundle = overlayControl.newBundle(BASE_NAME, Locale.FRENCH, overlayFormat,
+                loader, false);
+        assertEquals("Bonjour (local)", bundle.getString("greeting"));
+        assertFalse("Cached miss should not trigger reload", overlayControl.needsReload(
+                BASE_NAME, Locale.FRENCH, overlayFormat, loader, bundle, 0));
+
+        // the service recovers
+        available = true;
+        overlayControl.clearNegativeCache();
+        assertTrue(overlayControl.needsReload(
+                BASE_NAME, Locale.FRENCH, overlayFormat, loader, bundle, 0));
+        bundle = overlayControl.newBundle(BASE_NAME, Locale.FRENCH, overlayFormat, loader, true);
+        assertEquals("Bonjour", bundle.getString("greeting"));
+
+        // local only bundle for root locale is not reloaded
+        ResourceBundle root = overlayControl.newBundle(BASE_NAME, Locale.ROOT, overlayFormat,
+                loader, false);
+        assertFalse(overlayControl.needsReload(
+                BASE_NAME, Locale.ROOT, overlayFormat, loader, root, 0));
+    }
+
+    @Test
+    public void testPrefetchAllPartialFailure() throws Exception {
+        // the bundle info is not found
+        extraBundleId = "com.example.Broken";
+        BatchResult<ResourceBundle> result = control.prefetchAll(2);
+        assertEquals("Other bundles should be loaded", 3, result.getSuccessCount());
+        assertEquals(1, result.getFailureCount());
+        Result<ResourceBundle> failed = result.getResults().get(3);
+        assertTrue(failed.getFailure() instanceof ServiceException);
+        assertTrue(failed.getFailure().getMessage().contains("com.example.Broken"));
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test cases for CompactStringMap.
+ */
+public class CompactStringMapTest {
+
+    @Test
+    public void testValues() {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("ascii", "Hello");
+        map.put("latin1", "Caf\u00E9 \u00FCber");
+        map.put("cjk", "\u3053\u3093\u306B\u3061\u306F");
+        map.put("supplementary", "\uD83D\uDE00!");
+        map.put("empty", "");
+        map.put("null", null);
+
+        Map<String, String> compact = CompactStringMap.copyOf(map);
+        assertEquals(map, compact);
+        assertEquals(compact, map);
+        assertEquals(map.hashCode(), compact.hashCode());
+        assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(compact.keySet()));
+        for (String key : map.keySet()) {
+            assertEquals(map.get(key), compact.get(key));
+            assertTrue(compact.containsKey(key));
+        }
+        assertNull(compact.get("unknown"));
+        assertNull(compact.get(null));
+        assertFalse(compact.containsKey("unknown"));
+        assertFalse(compact.keySet().contains(1));
+    }
+
+    @Test
+    public void testEmpty() {
+        Map<String, String> compact = CompactStringMap.copyOf(Collections.<String, String>emptyMap());
+        assertTrue(compact.isEmpty());
+        assertNull(compact.get("key"));
+        assertFalse(compact.keySet().iterator().hasNext());
+    }
+
+    @Test
+    public void testLargeMap() {
+        Random random = new Random(42);
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            map.put("key" + random.nextInt(), Integer.toString(random.nextInt(), 36));
+        }
+        Map<String, String> compact = CompactStringMap.copyOf(map);
+        assertEquals(map, compact);
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            assertEquals(entry.getValue(), compact.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void testSharedKeys() {
+        Map<String, String> fr = new HashMap<>();
+        fr.put(new String("com.example.greeting"), "Bonjour");
+        Map<String, String> de = new HashMap<>();
+        de.put(new String("com.example.greeting"), "Hallo");
+
+        String frKey = CompactStringMap.copyOf(fr).keySet().iterator().next();
+        String deKey = CompactStringMap.copyOf(de).keySet().iterator().next();
+        assertSame("Equal keys should be shared", frKey, deKey);
+    }
+
+    @Test
+    public void testImmutable() {
+        Map<String, String> compact = CompactStringMap.copyOf(Collections.singletonMap("a", "b"));
+        try {
+            compact.put("c", "d");
+            fail("put should not be supported");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            compact.entrySet().iterator().next().setValue("x");
+            fail("setValue should not be supported");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            compact.keySet().clear();
+            fail("clear should not be supported");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertEquals("b", compact.get("a"));
+    }
+
+    @Test
+    public void testShortValues() {
+        String shortValue = "Cancel";
+        String longValue = "The operation was cancelled before the changes were saved.";
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("short", shortValue);
+        map.put("long", longValue);
+        Map<String, String> compact = CompactStringMap.copyOf(map);
+
+        assertSame("Short value should be kept as is", shortValue, compact.get("short"));
+        assertSame(shortValue, compact.entrySet().iterator().next().getValue());
+        assertEquals(longValue, compact.get("long"));
+    }
+
+    /**
+     * Creates resource strings of a bundle as parsed from JSON, i.e. each
+     * map has its own key and value instances.
+     */
+    private static Map<String, String> createBundle(int locale, int size) {
+        Random random = new Random(locale);
+        char base = locale % 7 == 0 ? '\u3041' : 'a';
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int len = random.nextInt(10) < 7 ? 4 + random.nextInt(24) : 40 + random.nextInt(120);
+            StringBuilder value = new StringBuilder(len);
+            for (int j = 0; j < len; j++) {
+                value.append((char) (base + random.nextInt(26)));
+            }
+            map.put(new StringBuilder("com.example.app.message").append(i).toString(),
+                    value.toString());
+        }
+        return map;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    public void testRetainedSize() throws InterruptedException {
+        final int locales = 35;
+        final int size = 1000;
+        List<Map<String, String>> bundles = new ArrayList<>();
+
+        long base = usedHeap();
+        for (int i = 0; i < locales; i++) {
+            bundles.add(createBundle(i, size));
+        }
+        long hashMapSize = usedHeap() - base;
+        assertEquals(locales, bundles.size());
+
+        bundles.clear();
+        base = usedHeap();
+        long estimatedSize = 0;
+        for (int i = 0; i < locales; i++) {
+            CompactStringMap compact = CompactStringMap.copyOf(createBundle(i, size));
+            estimatedSize += compact.estimatedSize();
+            bundles.add(compact);
+        }
+        long compactSize = usedHeap() - base;
+        assertEquals(locales, bundles.size());
+
+        assertTrue("Retained size of HashMap: " + hashMapSize + ", CompactStringMap: " + compactSize,
+                compactSize < hashMapSize * 3 / 4);
+        assertTrue("Estimated size " + estimatedSize + " should not be less than retained size "
+                + compactSize, estimatedSize >= compactSize);
+    }
+
+    @Test
+    public void testGetAllocation() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported()
+                && threadBean.isThreadAllocatedMemoryEnabled());
+
+        Map<String, String> map = new HashMap<>();
+        map.put("short", "Cancel");
+        map.put("long", "The operation was cancelled before the changes were saved.");
+        Map<String, String> compact = CompactStringMap.copyOf(map);
+        final int count = 10000;
+        String[] results = new String[count];
+        long threadId = Thread.currentThread().getId();
+
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            results[i] = compact.get("short");
+        }
+        long shortAllocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            results[i] = compact.get("long");
+        }
+        long longAllocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        assertTrue("Looking up a short value should not allocate: " + shortAllocated + " bytes",
+                shortAllocated < count);
+        assertTrue("Looking up a long value allocates a String: " + longAllocated + " bytes",
+                longAllocated >= count * 58L);
+        assertEquals(map.get("long"), results[count - 1]);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.StubServer;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Test cases for ListResourceBundleGenerator. These test cases use a local
+ * service stub, and do not access the service.
+ */
+public class ListResourceBundleGeneratorTest {
+    private static final String BUNDLE_ID = "com.example.Messages";
+
+    private ServiceClient client;
+    private final Map<String, String> frStrings = new LinkedHashMap<>();
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Rule
+    public StubServer server = new StubServer()
+            .route("/gp/.*/v2/bundles/" + Pattern.quote(BUNDLE_ID), 200,
+                    "{\"status\":\"SUCCESS\",\"bundle\":{"
+                    + "\"sourceLanguage\":\"en\",\"targetLanguages\":[\"fr\",\"zh-Hant-TW\"]}}")
+            .route("/gp/.*/fr", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    Map<String, Object> resp = new LinkedHashMap<>();
+                    resp.put("status", "SUCCESS");
+                    resp.put("resourceStrings", frStrings);
+                    StubServer.respond(exchange, 200, new Gson().toJson(resp));
+                }
+            })
+            .route("/gp/.*", 200,
+                    "{\"status\":\"SUCCESS\",\"resourceStrings\":{\"greeting\":\"Hello\"}}");
+
+    @Before
+    public void setUp() {
+        frStrings.put("greeting", "Bonjour \"{0}\"");
+        frStrings.put("path", "C:\\temp\\u0041");
+        frStrings.put("lines", "line1\nline2\r\n\ttab\u0001");
+        frStrings.put("unicode", "caf\u00E9 \u3053\u3093\u306B\u3061\u306F \uD83D\uDE00");
+        frStrings.put("comment", "*/ /* //");
+        frStrings.put("long", Strings.repeat("\u00E9", 20000) + "\uD83D\uDE00" + Strings.repeat("a", 20000));
+        for (int i = 0; i < 600; i++) {
+            frStrings.put("key" + i, "value" + i);
+        }
+
+        client = ServiceClient.getInstance(ServiceAccount.getInstance(
+                server.getUrl("/gp"), "instance1", "user", "password"));
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeTrue("Java compiler is not available", compiler != null);
+
+        File srcDir = tmpFolder.newFolder("src");
+        List<File> files = new ListResourceBundleGenerator(client)
+                .generate(BUNDLE_ID, null, null, srcDir);
+        assertEquals(3, files.size());
+        assertEquals(new File(srcDir, "com/example/Messages_zh_Hant_TW.java"), files.get(2));
+
+        File classDir = tmpFolder.newFolder("classes");
+        List<String> args = new ArrayList<>();
+        Collections.addAll(args, "-d", classDir.getPath(), "-encoding", "US-ASCII");
+        for (File file : files) {
+            args.add(file.getPath());
+        }
+        assertEquals("Generated sources should compile",
+                0, compiler.run(null, null, null, args.toArray(new String[0])));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classDir.toURI().toURL()}, null)) {
+            ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_ID, Locale.FRENCH, loader,
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_CLASS));
+            assertEquals(Locale.FRENCH, bundle.getLocale());
+            assertEquals(frStrings.size(), bundle.keySet().size());
+            for (Map.Entry<String, String> entry : frStrings.entrySet()) {
+                assertEquals(entry.getValue(), bundle.getString(entry.getKey()));
+            }
+
+            bundle = ResourceBundle.getBundle(BUNDLE_ID, Locale.forLanguageTag("zh-Hant-TW"), loader,
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_CLASS));
+            assertEquals("Hello", bundle.getString("greeting"));
+        }
+    }
+
+    @Test
+    public void testBaseNameAndLanguages() throws Exception {
+        File srcDir = tmpFolder.newFolder("src");
+        List<File> files = new ListResourceBundleGenerator(client)
+                .generate(BUNDLE_ID, "org.example.app.Strings", Collections.singletonList("de"), srcDir);
+        assertEquals(1, files.size());
+        File file = new File(srcDir, "org/example/app/Strings_de.java");
+        assertEquals(file, files.get(0));
+        assertTrue(file.isFile());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalBaseName() throws Exception {
+        new ListResourceBundleGenerator(client).generate(BUNDLE_ID, "com.example.my-app.Messages",
+                Collections.singletonList("de"), tmpFolder.newFolder("src"));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * Test cases for NegativeCache.
+ */
+public class NegativeCacheTest {
+
+    @Test
+    public void testContains() {
+        NegativeCache cache = new NegativeCache(60000L);
+        assertFalse(cache.contains("bundle1", Locale.FRENCH));
+        cache.put("bundle1", Locale.FRENCH);
+        assertTrue(cache.contains("bundle1", Locale.FRENCH));
+        assertFalse(cache.contains("bundle1", Locale.GERMAN));
+        assertFalse(cache.contains("bundle2", Locale.FRENCH));
+
+        cache.clear();
+        assertFalse(cache.contains("bundle1", Locale.FRENCH));
+    }
+
+    @Test
+    public void testExpiration() throws InterruptedException {
+        NegativeCache cache = new NegativeCache(50L);
+        cache.put("bundle1", Locale.FRENCH);
+        assertTrue(cache.contains("bundle1", Locale.FRENCH));
+        Thread.sleep(100L);
+        assertFalse("Expired entry should not be used", cache.contains("bundle1", Locale.FRENCH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalTtl() {
+        new NegativeCache(0L);
+    }
+}
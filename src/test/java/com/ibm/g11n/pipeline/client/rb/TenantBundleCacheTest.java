@@ -0,0 +1,227 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import static com.ibm.g11n.pipeline.client.StubServer.respond;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.base.Strings;
+import com.ibm.g11n.pipeline.client.ServiceAccount;
+import com.ibm.g11n.pipeline.client.ServiceClient;
+import com.ibm.g11n.pipeline.client.StubServer;
+import com.ibm.g11n.pipeline.client.rb.TenantBundleCache.TenantStatistics;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Test cases for TenantBundleCache. These test cases use a local service
+ * stub, and do not access the service.
+ */
+public class TenantBundleCacheTest {
+    // Each bundle is estimated about 1.2KB
+    private static final String LONG_VALUE = Strings.repeat("x", 1000);
+
+    private String url;
+    private volatile String updatedAt = "2017-01-02T03:04:05.678Z";
+    private volatile String padding = LONG_VALUE;
+
+    @Rule
+    public StubServer server = new StubServer()
+            .route("/gp/[^/]+/v2/bundles/[^/]+", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    respond(exchange, 200, "{\"status\":\"SUCCESS\",\"bundle\":{"
+                            + "\"updatedAt\":\"" + updatedAt + "\"}}");
+                }
+            })
+            .route("/gp/([^/]+)/v2/bundles/[^/]+/([^/]+)", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    String instance = path.group(1);
+                    String language = path.group(2);
+                    if (language.equals("fr")) {
+                        respond(exchange, 200, "{\"status\":\"SUCCESS\",\"resourceStrings\":{"
+                                + "\"greeting\":\"Bonjour " + instance + "\","
+                                + "\"farewell\":\"Au revoir\","
+                                + "\"padding\":\"" + padding + "\"}}");
+                    } else if (language.equals("fr-CA")) {
+                        respond(exchange, 200, "{\"status\":\"SUCCESS\",\"resourceStrings\":{"
+                                + "\"greeting\":\"Allo " + instance + "\"}}");
+                    } else {
+                        respond(exchange, 404, "{\"status\":\"ERROR\",\"message\":\"Not found\"}");
+                    }
+                }
+            });
+
+    @Before
+    public void setUp() {
+        url = server.getUrl("/gp");
+    }
+
+    private TenantBundleCache newCache(long maxBytes, long maxBytesPerTenant, String... tenants) {
+        TenantBundleCache cache = new TenantBundleCache(maxBytes, maxBytesPerTenant, 60000L);
+        for (String tenant : tenants) {
+            cache.putTenant(tenant, ServiceAccount.getInstance(url, tenant, "user", "password"));
+        }
+        return cache;
+    }
+
+    @Test
+    public void testGetBundle() {
+        TenantBundleCache cache = newCache(100000L, 100000L, "tenant1", "tenant2");
+
+        ResourceBundle bundle = cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        assertEquals(Locale.FRENCH, bundle.getLocale());
+        assertEquals("Bonjour tenant1", bundle.getString("greeting"));
+        assertSame(bundle, cache.getBundle("tenant1", "b1", Locale.FRENCH));
+        assertEquals("Bonjour tenant2",
+                cache.getBundle("tenant2", "b1", Locale.FRENCH).getString("greeting"));
+
+        // fr-CA falls back to fr
+        bundle = cache.getBundle("tenant1", "b1", Locale.CANADA_FRENCH);
+        assertEquals(Locale.CANADA_FRENCH, bundle.getLocale());
+        assertEquals("Allo tenant1", bundle.getString("greeting"));
+        assertEquals("Au revoir", bundle.getString("farewell"));
+        assertTrue(bundle.keySet().containsAll(Arrays.asList("greeting", "farewell", "padding")));
+
+        try {
+            cache.getBundle("tenant1", "b1", Locale.JAPANESE);
+            fail("No bundle should be available for ja");
+        } catch (MissingResourceException e) {
+            // expected
+        }
+        try {
+            cache.getBundle("tenant3", "b1", Locale.FRENCH);
+            fail("Unknown tenant should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        TenantStatistics stats = cache.getStatistics("tenant1");
+        // fr, fr-CA, ja
+        assertEquals(3, stats.getLoadCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(3, stats.getEntryCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertTrue(stats.getEstimatedSize() > LONG_VALUE.length());
+        assertEquals(2, cache.getAllStatistics().size());
+
+        // cached miss
+        try {
+            cache.getBundle("tenant1", "b1", Locale.JAPANESE);
+            fail("No bundle should be available for ja");
+        } catch (MissingResourceException e) {
+            // expected
+        }
+        assertEquals(3, cache.getStatistics("tenant1").getLoadCount());
+    }
+
+    @Test
+    public void testTenantQuota() {
+        TenantBundleCache cache = newCache(100000L, 2000L, "tenant1", "tenant2");
+        cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        cache.getBundle("tenant2", "b1", Locale.FRENCH);
+        cache.getBundle("tenant1", "b2", Locale.FRENCH);
+
+        TenantStatistics stats1 = cache.getStatistics("tenant1");
+        assertEquals(1, stats1.getEntryCount());
+        assertEquals(1, stats1.getEvictionCount());
+        assertTrue(stats1.getEstimatedSize() <= 2000L);
+        assertEquals("Other tenants should not be affected",
+                0, cache.getStatistics("tenant2").getEvictionCount());
+
+        cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        assertEquals(3, cache.getStatistics("tenant1").getLoadCount());
+    }
+
+    @Test
+    public void testGlobalBudget() {
+        TenantBundleCache cache = newCache(3000L, 100000L, "tenant1", "tenant2", "tenant3");
+        cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        cache.getBundle("tenant2", "b1", Locale.FRENCH);
+        // tenant1 is used recently
+        cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        cache.getBundle("tenant3", "b1", Locale.FRENCH);
+
+        assertTrue(cache.getEstimatedSize() <= 3000L);
+        assertEquals("Least recently used bundle should be evicted",
+                1, cache.getStatistics("tenant2").getEvictionCount());
+        assertEquals(0, cache.getStatistics("tenant1").getEvictionCount());
+        assertEquals(1, cache.getStatistics("tenant1").getEntryCount());
+    }
+
+    @Test
+    public void testRefreshUpdatesSize() throws InterruptedException {
+        TenantBundleCache cache = new TenantBundleCache(100000L, 4000L, 50L);
+        cache.putTenant("tenant1", ServiceAccount.getInstance(url, "tenant1", "user", "password"));
+        ResourceBundle bundle = cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        cache.getBundle("tenant1", "b2", Locale.FRENCH);
+        assertEquals(2, cache.getStatistics("tenant1").getEntryCount());
+
+        // b1 grows after it expires
+        padding = Strings.repeat("y", 3000);
+        updatedAt = "2017-02-03T04:05:06.789Z";
+        Thread.sleep(100);
+        assertSame(bundle, cache.getBundle("tenant1", "b1", Locale.FRENCH));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.getStatistics("tenant1").getEvictionCount() == 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(padding, bundle.getString("padding"));
+        TenantStatistics stats = cache.getStatistics("tenant1");
+        assertEquals("Refreshed bundle exceeding the quota should evict b2",
+                1, stats.getEvictionCount());
+        assertEquals(1, stats.getEntryCount());
+        assertTrue(stats.getEstimatedSize() > 3000L);
+        assertTrue(stats.getEstimatedSize() <= 4000L);
+        assertEquals(stats.getEstimatedSize(), cache.getEstimatedSize());
+    }
+
+    @Test
+    public void testRemoveTenant() {
+        TenantBundleCache cache = newCache(100000L, 100000L, "tenant1");
+        cache.getBundle("tenant1", "b1", Locale.FRENCH);
+        assertTrue(cache.getEstimatedSize() > 0);
+        ServiceAccount account = ServiceAccount.getInstance(url, "tenant1", "user", "password");
+        ServiceClient client = ServiceClient.getSharedInstance(account);
+        assertTrue(cache.removeTenant("tenant1"));
+        assertSame("Client shared with other components should be kept",
+                client, ServiceClient.getSharedInstance(account));
+        assertFalse(cache.removeTenant("tenant1"));
+        assertNull(cache.getStatistics("tenant1"));
+        assertEquals(0, cache.getEstimatedSize());
+    }
+}
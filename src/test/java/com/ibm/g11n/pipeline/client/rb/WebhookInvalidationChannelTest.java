@@ -0,0 +1,168 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.g11n.pipeline.client.rb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for WebhookInvalidationChannel. These test cases do not
+ * access the service.
+ */
+public class WebhookInvalidationChannelTest {
+    private static final String SECRET = "s3cret";
+
+    private WebhookInvalidationChannel channel;
+    private final List<InvalidationEvent> events = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        channel = new WebhookInvalidationChannel(new InetSocketAddress("localhost", 0),
+                "/gp-webhook", SECRET);
+        channel.setCoalesceDelay(50L);
+        channel.subscribe(new InvalidationChannel.Listener() {
+            @Override
+            public void onInvalidate(InvalidationEvent event) {
+                events.add(event);
+            }
+        });
+        channel.start();
+    }
+
+    @After
+    public void tearDown() {
+        channel.close();
+    }
+
+    private int send(String method, String secret, String body) throws IOException {
+        URL url = new URL("http://localhost:" + channel.getAddress().getPort() + "/gp-webhook");
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setRequestMethod(method);
+        if (secret != null) {
+            conn.setRequestProperty(WebhookInvalidationChannel.SECRET_HEADER, secret);
+        }
+        if (body != null) {
+            conn.setDoOutput(true);
+            conn.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream os = conn.getOutputStream()) {
+                os.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try {
+            return conn.getResponseCode();
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private void awaitEvents(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (events.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // no more events should follow
+        Thread.sleep(200);
+        assertEquals(count, events.size());
+    }
+
+    @Test
+    public void testEvent() throws Exception {
+        assertEquals(204, send("POST", SECRET,
+                "{\"instanceId\":\"instance1\",\"bundleId\":\"b1\",\"languages\":[\"fr\",\"pt-BR\"]}"));
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b2\"}"));
+        awaitEvents(2);
+
+        InvalidationEvent event = events.get(0);
+        assertEquals("instance1", event.getInstanceId());
+        assertEquals("b1", event.getBundleId());
+        assertEquals(Arrays.asList("fr", "pt-BR"), Arrays.asList(event.getLanguages().toArray()));
+        assertTrue(event.appliesTo(Locale.forLanguageTag("pt-BR")));
+        assertTrue(!event.appliesTo(Locale.GERMAN));
+
+        event = events.get(1);
+        assertNull(event.getInstanceId());
+        assertTrue(event.getLanguages().isEmpty());
+        assertTrue(event.appliesTo(Locale.GERMAN));
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        channel.setCoalesceDelay(500L);
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b1\",\"languages\":[\"fr\"]}"));
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b1\",\"languages\":[\"de\"]}"));
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b1\",\"languages\":[\"fr\"]}"));
+        assertEquals(204, send("POST", SECRET,
+                "{\"instanceId\":\"instance1\",\"bundleId\":\"b1\",\"languages\":[\"fr\"]}"));
+        awaitEvents(2);
+        assertNull(events.get(0).getInstanceId());
+        assertEquals(new HashSet<>(Arrays.asList("fr", "de")), events.get(0).getLanguages());
+        assertEquals("instance1", events.get(1).getInstanceId());
+
+        // an event for all languages absorbs others
+        events.clear();
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b2\",\"languages\":[\"fr\"]}"));
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b2\"}"));
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b2\",\"languages\":[\"de\"]}"));
+        awaitEvents(1);
+        assertEquals("b2", events.get(0).getBundleId());
+        assertTrue(events.get(0).getLanguages().isEmpty());
+
+        // an event received after delivery is delivered again
+        assertEquals(204, send("POST", SECRET, "{\"bundleId\":\"b2\"}"));
+        awaitEvents(2);
+    }
+
+    @Test
+    public void testSecretRequired() throws IOException {
+        for (String secret : new String[] {null, ""}) {
+            try (WebhookInvalidationChannel c = new WebhookInvalidationChannel(
+                    new InetSocketAddress("localhost", 0), "/gp-webhook", secret)) {
+                fail("Channel without a secret should not be created");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testRejected() throws IOException {
+        assertEquals(401, send("POST", null, "{\"bundleId\":\"b1\"}"));
+        assertEquals(401, send("POST", "wrong", "{\"bundleId\":\"b1\"}"));
+        assertEquals(405, send("GET", SECRET, null));
+        assertEquals(400, send("POST", SECRET, "{\"languages\":[\"fr\"]}"));
+        assertEquals(400, send("POST", SECRET, "[1, 2]"));
+        assertEquals(400, send("POST", SECRET, "{not json"));
+        assertTrue(events.isEmpty());
+    }
+}
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,10 +29,16 @@ import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
 
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
 
+import com.ibm.g11n.pipeline.client.StubServer;
+import com.sun.net.httpserver.HttpExchange;
+
 /**
  * @author Siddharth Jain
  *
@@ -44,6 +51,18 @@ public class TokenLifeCycleManagerTest {
     private static final String dummyIamApiEndpoint="https://iam.cloud.ibm.com";
     private static final String dummyApiKey = "DUMMY_KEY";
 
+    private final AtomicInteger tokenCount = new AtomicInteger();
+
+    @Rule
+    public StubServer server = new StubServer()
+            .route("/identity/token", new StubServer.Route() {
+                @Override
+                public void handle(HttpExchange exchange, Matcher path) throws IOException {
+                    StubServer.respond(exchange, 200, "{\"access_token\":\"token-"
+                            + tokenCount.incrementAndGet() + "\",\"expires_in\":3600}");
+                }
+            });
+
     
     @BeforeClass
     public static void setup() {
@@ -218,4 +237,22 @@ public class TokenLifeCycleManagerTest {
         assertTrue("There should only be one token fetch operation from IAM irrespective of the number of calls from n threads for the same pair of iam api key and endpoint",tokens.size()==1);
     }
     
+    @Test
+    public void testRefreshToken() throws Exception {
+        TokenLifeCycleManager manager = TokenLifeCycleManager.getInstance(
+                server.getUrl(""), dummyApiKey);
+        assertEquals("token-1", manager.getToken());
+
+        assertEquals("Stale token should be replaced", "token-2", manager.refreshToken("token-1"));
+        assertEquals(2, tokenCount.get());
+
+        assertEquals("Already replaced token should not be fetched again",
+                "token-2", manager.refreshToken("token-1"));
+        assertEquals("token-2", manager.getToken());
+        assertEquals(2, tokenCount.get());
+
+        assertEquals("Token should not be replaced again within the minimum interval",
+                "token-2", manager.refreshToken("token-2"));
+        assertEquals(2, tokenCount.get());
+    }
 }